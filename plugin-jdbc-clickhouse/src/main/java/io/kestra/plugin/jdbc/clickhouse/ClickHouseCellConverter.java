@@ -4,10 +4,10 @@ import com.clickhouse.data.value.UnsignedLong;
 import com.clickhouse.data.value.UnsignedShort;
 import io.kestra.plugin.jdbc.AbstractCellConverter;
 
-import java.net.Inet4Address;
-import java.net.Inet6Address;
+import java.net.InetAddress;
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -29,74 +29,68 @@ public class ClickHouseCellConverter extends AbstractCellConverter {
 
     @Override
     public Object convertCell(int columnIndex, ResultSet rs, Connection connection) throws SQLException {
-        Object data = rs.getObject(columnIndex);
-
-        if (data == null) {
-            return null;
-        }
+        return this.compile(columnIndex, rs.getMetaData()).read(rs, connection);
+    }
 
-        Object columnVal = rs.getObject(columnIndex);
-        String columnTypeName = rs.getMetaData().getColumnTypeName(columnIndex);
+    @Override
+    public CellReader compile(int columnIndex, ResultSetMetaData metaData) throws SQLException {
+        String columnTypeName = metaData.getColumnTypeName(columnIndex);
 
         if (columnTypeName.equals("DateTime")) {
             // date with no TZ, we use the server default one
-            return LocalDateTime
-                .parse(
-                    rs.getString(columnIndex),
-                    DATE_TIME_FORMAT
-                );
+            return (rs, connection) -> {
+                String value = rs.getString(columnIndex);
+                return value == null ? null : LocalDateTime.parse(value, DATE_TIME_FORMAT);
+            };
         } else if (columnTypeName.startsWith("DateTime")) {
             Matcher matcher = PATTERN.matcher(columnTypeName);
             if (!matcher.find() || matcher.groupCount() < 3) {
                 throw new IllegalArgumentException("Invalid column type '" + columnTypeName + "'");
             }
 
-            return LocalDateTime
-                .parse(
-                    rs.getString(columnIndex),
-                    DATE_TIME_FORMAT
-                )
-                .atZone(ZoneId.of(matcher.group(3)))
-                .withZoneSameInstant(zoneId);
-        }
+            ZoneId columnZoneId = ZoneId.of(matcher.group(3));
 
-        if (columnTypeName.equals("Int8")) {
-            Byte col = (Byte) columnVal;
-            return col.intValue();
+            return (rs, connection) -> {
+                String value = rs.getString(columnIndex);
+                return value == null ? null : LocalDateTime
+                    .parse(value, DATE_TIME_FORMAT)
+                    .atZone(columnZoneId)
+                    .withZoneSameInstant(zoneId);
+            };
         }
 
-        if (columnTypeName.equals("Date")) {
-            return columnVal;
-        }
-
-        if (columnTypeName.startsWith("Array(")) {
-            return columnVal;
-        }
-
-        if (columnTypeName.startsWith("Tuple(")) {
-            return columnVal;
+        if (columnTypeName.equals("Int8")) {
+            return (rs, connection) -> {
+                Byte col = (Byte) rs.getObject(columnIndex);
+                return col == null ? null : col.intValue();
+            };
         }
 
-        if (columnTypeName.equals("IPv4")) {
-            Inet4Address col = (Inet4Address) columnVal;
-            return col.toString().substring(1);
+        if (columnTypeName.equals("Date") || columnTypeName.startsWith("Array(") || columnTypeName.startsWith("Tuple(")) {
+            return (rs, connection) -> rs.getObject(columnIndex);
         }
 
-        if (columnTypeName.equals("IPv6")) {
-            Inet6Address col = (Inet6Address) columnVal;
-            return col.toString().substring(1);
+        if (columnTypeName.equals("IPv4") || columnTypeName.equals("IPv6")) {
+            return (rs, connection) -> {
+                InetAddress col = (InetAddress) rs.getObject(columnIndex);
+                return col == null ? null : col.toString().substring(1);
+            };
         }
 
         if (columnTypeName.equals("UInt64")) {
-            UnsignedLong col = (UnsignedLong) columnVal;
-            return col.longValue();
+            return (rs, connection) -> {
+                UnsignedLong col = (UnsignedLong) rs.getObject(columnIndex);
+                return col == null ? null : col.longValue();
+            };
         }
 
         if (columnTypeName.equals("UInt16")) {
-            UnsignedShort col = (UnsignedShort) columnVal;
-            return col.intValue();
+            return (rs, connection) -> {
+                UnsignedShort col = (UnsignedShort) rs.getObject(columnIndex);
+                return col == null ? null : col.intValue();
+            };
         }
 
-        return super.convert(columnIndex, rs);
+        return (rs, connection) -> super.convert(columnIndex, rs);
     }
 }
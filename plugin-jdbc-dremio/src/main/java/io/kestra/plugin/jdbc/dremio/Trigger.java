@@ -72,6 +72,7 @@ public class Trigger extends AbstractJdbcTrigger implements DremioConnectionInte
             .fetchOne(this.isFetchOne())
             .fetchType(Property.of(this.renderFetchType(runContext)))
             .fetchSize(this.getFetchSize())
+            .pooled(this.getPooled())
             .additionalVars(this.additionalVars)
             .parameters(this.getParameters())
             .build();
@@ -1,11 +1,11 @@
 package io.kestra.plugin.jdbc.duckdb;
 
 import io.kestra.plugin.jdbc.AbstractCellConverter;
-import lombok.SneakyThrows;
 import org.duckdb.DuckDBArray;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
@@ -16,27 +16,47 @@ public class DuckDbCellConverter extends AbstractCellConverter {
         super(zoneId);
     }
 
-    @SneakyThrows
     @Override
     public Object convertCell(int columnIndex, ResultSet rs, Connection connection) throws SQLException {
-        Object data = rs.getObject(columnIndex);
+        return this.compile(columnIndex, rs.getMetaData()).read(rs, connection);
+    }
 
-        if (data == null) {
-            return null;
+    @Override
+    public CellReader compile(int columnIndex, ResultSetMetaData metaData) throws SQLException {
+        String columnTypeName = metaData.getColumnTypeName(columnIndex);
+
+        if (columnTypeName.equalsIgnoreCase("TIMESTAMP")) {
+            return (rs, connection) -> {
+                Object data = rs.getObject(columnIndex);
+                if (data == null || data instanceof OffsetDateTime) {
+                    return data;
+                }
+
+                return rs.getTimestamp(columnIndex).toLocalDateTime().atZone(zoneId);
+            };
         }
 
-        String columnTypeName = rs.getMetaData().getColumnTypeName(columnIndex);
+        if (columnTypeName.equalsIgnoreCase("TIMESTAMPTZ")) {
+            return (rs, connection) -> {
+                Object data = rs.getObject(columnIndex);
+                if (data == null || data instanceof OffsetDateTime) {
+                    return data;
+                }
 
-        if (data instanceof OffsetDateTime) {
-            return data;
+                return rs.getTimestamp(columnIndex).toLocalDateTime().atOffset(ZoneOffset.UTC);
+            };
         }
 
-        if (columnTypeName.equalsIgnoreCase("TIMESTAMP")) {
-            return rs.getTimestamp(columnIndex).toLocalDateTime().atZone(zoneId);
+        return (rs, connection) -> this.convertObject(rs.getObject(columnIndex), columnIndex, rs);
+    }
+
+    private Object convertObject(Object data, int columnIndex, ResultSet rs) throws SQLException {
+        if (data == null) {
+            return null;
         }
 
-        if (columnTypeName.equalsIgnoreCase("TIMESTAMPTZ")) {
-            return rs.getTimestamp(columnIndex).toLocalDateTime().atOffset(ZoneOffset.UTC);
+        if (data instanceof OffsetDateTime) {
+            return data;
         }
 
         if (data instanceof Byte col) {
@@ -47,7 +67,7 @@ public class DuckDbCellConverter extends AbstractCellConverter {
             return processDuckDbArray(array);
         }
 
-        return super.convert(columnIndex, rs);
+        return super.convert(data, columnIndex, rs);
     }
 
     private Object processDuckDbArray(DuckDBArray duckDBArray) throws SQLException {
@@ -10,6 +10,7 @@ import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.plugin.jdbc.AbstractCellConverter;
 import io.kestra.plugin.jdbc.AbstractJdbcQueries;
+import io.kestra.plugin.jdbc.SqlScriptSplitter;
 import io.micronaut.http.uri.UriBuilder;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -21,8 +22,10 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
@@ -79,9 +82,30 @@ public class Queries extends AbstractJdbcQueries implements RunnableTask<Queries
     @Getter(AccessLevel.NONE)
     private transient Path databaseFile;
 
+    @Getter(AccessLevel.NONE)
+    private transient Path fileSearchPath;
+
     @Builder.Default
     private Property<String> url = Property.of(DEFAULT_URL);
 
+    @Override
+    public Connection connection(RunContext runContext) throws Exception {
+        Connection connection = super.connection(runContext);
+
+        if (this.fileSearchPath != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET file_search_path='" + this.fileSearchPath + "'");
+            }
+        }
+
+        return connection;
+    }
+
+    @Override
+    protected SqlScriptSplitter.Dialect scriptDialect() {
+        return SqlScriptSplitter.Dialect.POSTGRES;
+    }
+
     @Override
     protected AbstractCellConverter getCellConverter(ZoneId zoneId) {
         return new DuckDbCellConverter(zoneId);
@@ -190,8 +214,8 @@ public class Queries extends AbstractJdbcQueries implements RunnableTask<Queries
             );
         }
 
-        final var configureFileSearchPathQuery = "SET file_search_path='" + workingDirectory + "';";
-        this.sql = new Property<>(configureFileSearchPathQuery +"\n" + this.sql.toString());
+        // set on each connection, as statements can run on several ones with parallelism
+        this.fileSearchPath = workingDirectory;
 
         AbstractJdbcQueries.MultiQueryOutput run = super.run(runContext);
 
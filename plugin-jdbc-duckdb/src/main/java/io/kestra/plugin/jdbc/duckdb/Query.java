@@ -273,6 +273,8 @@ public class Query extends AbstractJdbcQuery implements RunnableTask<Query.Outpu
             .row(run.getRow())
             .rows(run.getRows())
             .uri(run.getUri())
+            .uris(run.getUris())
+            .partitions(run.getPartitions())
             .size(run.getSize())
             .outputFiles(uploaded)
             .databaseUri(dbUri)
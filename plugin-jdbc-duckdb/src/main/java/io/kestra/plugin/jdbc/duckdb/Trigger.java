@@ -91,6 +91,7 @@ public class Trigger extends AbstractJdbcTrigger implements DuckDbQueryInterface
             .fetchOne(this.isFetchOne())
             .fetchType(Property.of(this.renderFetchType(runContext)))
             .fetchSize(this.getFetchSize())
+            .pooled(this.getPooled())
             .additionalVars(this.additionalVars)
             .parameters(this.getParameters())
             .databaseUri(this.getDatabaseUri())
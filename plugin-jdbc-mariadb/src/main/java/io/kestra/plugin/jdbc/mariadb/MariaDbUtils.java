@@ -1,5 +1,7 @@
 package io.kestra.plugin.jdbc.mariadb;
 
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.plugin.jdbc.ResultStreaming;
 import io.micronaut.http.uri.UriBuilder;
 
 import java.net.URI;
@@ -27,4 +29,20 @@ public abstract class MariaDbUtils {
 
         return props;
     }
+
+    /**
+     * How the MariaDB driver fetches the results of a fetch type.
+     * The driver has no server-side cursor, the rows are streamed by batches of the fetch size instead.
+     */
+    protected static ResultStreaming resultStreaming(FetchType fetchType) {
+        ResultStreaming mode = ResultStreaming.of(fetchType);
+        return mode == ResultStreaming.CURSOR_FETCH ? ResultStreaming.ROW_STREAMING : mode;
+    }
+
+    /**
+     * The fetch size that makes the MariaDB driver fetch the results with the given mode.
+     */
+    protected static int streamingFetchSize(ResultStreaming mode, int fetchSize) {
+        return mode == ResultStreaming.BUFFERED ? 0 : Math.max(fetchSize, 1);
+    }
 }
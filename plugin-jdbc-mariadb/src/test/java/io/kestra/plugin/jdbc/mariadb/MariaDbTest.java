@@ -2,12 +2,14 @@ package io.kestra.plugin.jdbc.mariadb;
 
 import com.google.common.collect.ImmutableMap;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.AbstractMetricEntry;
 import io.kestra.core.models.property.Property;
 import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.Test;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.jdbc.AbstractJdbcQuery;
 import io.kestra.plugin.jdbc.AbstractRdbmsTest;
+import io.kestra.plugin.jdbc.ResultStreaming;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -22,6 +24,7 @@ import java.util.Map;
 import java.util.stream.Stream;
 
 import static io.kestra.core.models.tasks.common.FetchType.FETCH_ONE;
+import static io.kestra.core.models.tasks.common.FetchType.STORE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -133,6 +136,32 @@ public class MariaDbTest extends AbstractRdbmsTest {
         assertThat(runOutput.getSize(), equalTo(0L));
     }
 
+    @Test
+    void storeStreamsTheRows() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query task = Query.builder()
+            .url(Property.of(getUrl()))
+            .username(Property.of(getUsername()))
+            .password(Property.of(getPassword()))
+            .fetchType(Property.of(STORE))
+            .timeZoneId(Property.of("Europe/Paris"))
+            .sql(Property.of("select * from mariadb_types"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getUri(), notNullValue());
+        // the driver streams the rows by batches of the fetch size instead of loading them all
+        assertThat(task.renderFetchSize(runContext), is(10000));
+
+        AbstractMetricEntry<?> streaming = runContext.metrics().stream()
+            .filter(metric -> metric.getName().equals("fetch.streaming"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(streaming.getTags().get("mode"), is(ResultStreaming.ROW_STREAMING.name()));
+        assertThat(streaming.getTags().get("store"), is("true"));
+    }
+
     @Test
     void update() throws Exception {
         RunContext runContext = runContextFactory.of(ImmutableMap.of());
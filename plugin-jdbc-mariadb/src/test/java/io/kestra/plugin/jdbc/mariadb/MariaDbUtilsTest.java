@@ -0,0 +1,26 @@
+package io.kestra.plugin.jdbc.mariadb;
+
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.plugin.jdbc.ResultStreaming;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class MariaDbUtilsTest {
+    @Test
+    void resultStreaming() {
+        assertThat(MariaDbUtils.resultStreaming(FetchType.STORE), is(ResultStreaming.ROW_STREAMING));
+        // no server-side cursor, the first batch is streamed instead
+        assertThat(MariaDbUtils.resultStreaming(FetchType.FETCH_ONE), is(ResultStreaming.ROW_STREAMING));
+        assertThat(MariaDbUtils.resultStreaming(FetchType.FETCH), is(ResultStreaming.BUFFERED));
+        assertThat(MariaDbUtils.resultStreaming(FetchType.NONE), is(ResultStreaming.BUFFERED));
+    }
+
+    @Test
+    void streamingFetchSize() {
+        assertThat(MariaDbUtils.streamingFetchSize(ResultStreaming.ROW_STREAMING, 10000), is(10000));
+        assertThat(MariaDbUtils.streamingFetchSize(ResultStreaming.ROW_STREAMING, 0), is(1));
+        assertThat(MariaDbUtils.streamingFetchSize(ResultStreaming.BUFFERED, 10000), is(0));
+    }
+}
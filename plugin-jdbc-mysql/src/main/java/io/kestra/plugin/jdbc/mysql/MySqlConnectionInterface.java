@@ -1,6 +1,7 @@
 package io.kestra.plugin.jdbc.mysql;
 
 import io.kestra.plugin.jdbc.JdbcConnectionInterface;
+import io.kestra.plugin.jdbc.ResultStreaming;
 import io.micronaut.http.uri.UriBuilder;
 
 import java.net.URI;
@@ -38,4 +39,16 @@ public interface MySqlConnectionInterface extends JdbcConnectionInterface {
 
         return props;
     }
+
+    /**
+     * The fetch size that makes Connector/J fetch the results with the given mode, `useCursorFetch` being enabled on the connection.
+     */
+    default int streamingFetchSize(ResultStreaming mode, int fetchSize) {
+        // see https://dev.mysql.com/doc/connector-j/en/connector-j-reference-implementation-notes.html
+        return switch (mode) {
+            case ROW_STREAMING -> Integer.MIN_VALUE;
+            case CURSOR_FETCH -> Math.max(fetchSize, 1);
+            case BUFFERED -> 0;
+        };
+    }
 }
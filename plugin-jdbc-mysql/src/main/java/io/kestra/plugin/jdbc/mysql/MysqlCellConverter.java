@@ -34,6 +34,12 @@ public class MysqlCellConverter extends AbstractCellConverter {
 
     }
 
+    @Override
+    public ParameterBinder compileBinder(AbstractJdbcBatch.ParameterType parameterType, int index) {
+        // the driver doesn't know the parameter types without server-side prepared statements, the value class is used instead
+        return (ps, value, connection) -> this.addPreparedStatementValue(ps, parameterType, value, index, connection);
+    }
+
     @Override
     public PreparedStatement addPreparedStatementValue(PreparedStatement ps, AbstractJdbcBatch.ParameterType parameterType, Object value, int index, Connection connection) throws Exception {
         if (value == null) {
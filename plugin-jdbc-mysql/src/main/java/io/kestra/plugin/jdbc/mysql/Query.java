@@ -1,15 +1,16 @@
 package io.kestra.plugin.jdbc.mysql;
 
 import com.mysql.cj.jdbc.Driver;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
-import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.runners.PluginUtilsService;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.jdbc.AbstractCellConverter;
 import io.kestra.plugin.jdbc.AbstractJdbcQuery;
+import io.kestra.plugin.jdbc.ResultStreaming;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -111,11 +112,13 @@ public class Query extends AbstractJdbcQuery implements RunnableTask<AbstractJdb
     }
 
     @Override
-    public Property<Integer> getFetchSize() {
-        // The combination of useCursorFetch=true and preparedStatement.setFetchSize(10); push to use cursor on MySql DB instance side.
-        // This leads to consuming DB instance disk memory when we try to fetch more than aware table size.
-        // It actually just disables client-side caching of the entire response and gives you responses as they arrive as a result it has no effect on the DB
-        return this.isStore() ? Property.of(Integer.MIN_VALUE) : this.fetchSize;
+    protected Integer renderFetchSize(RunContext runContext) throws IllegalVariableEvaluationException {
+        return this.streamingFetchSize(this.resultStreaming(runContext), super.renderFetchSize(runContext));
+    }
+
+    @Override
+    protected ResultStreaming resultStreaming(RunContext runContext) throws IllegalVariableEvaluationException {
+        return ResultStreaming.of(this.renderFetchType(runContext));
     }
 
     @Override
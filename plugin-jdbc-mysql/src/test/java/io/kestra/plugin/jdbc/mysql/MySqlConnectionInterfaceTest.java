@@ -0,0 +1,19 @@
+package io.kestra.plugin.jdbc.mysql;
+
+import io.kestra.plugin.jdbc.ResultStreaming;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class MySqlConnectionInterfaceTest {
+    @Test
+    void streamingFetchSize() {
+        Query task = Query.builder().build();
+
+        assertThat(task.streamingFetchSize(ResultStreaming.ROW_STREAMING, 10000), is(Integer.MIN_VALUE));
+        assertThat(task.streamingFetchSize(ResultStreaming.CURSOR_FETCH, 10000), is(10000));
+        assertThat(task.streamingFetchSize(ResultStreaming.CURSOR_FETCH, 0), is(1));
+        assertThat(task.streamingFetchSize(ResultStreaming.BUFFERED, 10000), is(0));
+    }
+}
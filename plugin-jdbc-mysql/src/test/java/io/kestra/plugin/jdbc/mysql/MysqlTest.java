@@ -2,6 +2,7 @@ package io.kestra.plugin.jdbc.mysql;
 
 import com.google.common.collect.ImmutableMap;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.AbstractMetricEntry;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.utils.IdUtils;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.jdbc.AbstractJdbcQuery;
 import io.kestra.plugin.jdbc.AbstractRdbmsTest;
+import io.kestra.plugin.jdbc.ResultStreaming;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -19,7 +21,10 @@ import org.junit.jupiter.params.provider.EnumSource;
 import java.io.FileNotFoundException;
 import java.math.BigDecimal;
 import java.net.URISyntaxException;
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.*;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -138,6 +143,44 @@ public class MysqlTest extends AbstractRdbmsTest {
         assertThat(runOutput.getSize(), equalTo(0L));
     }
 
+    @Test
+    void storeStreamsTheRows() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query task = Query.builder()
+            .url(Property.of(getUrl()))
+            .username(Property.of(getUsername()))
+            .password(Property.of(getPassword()))
+            .fetchType(Property.of(STORE))
+            .timeZoneId(Property.of("Europe/Paris"))
+            .sql(Property.of("select * from mysql_types"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getUri(), notNullValue());
+
+        AbstractMetricEntry<?> streaming = runContext.metrics().stream()
+            .filter(metric -> metric.getName().equals("fetch.streaming"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(streaming.getTags().get("mode"), is(ResultStreaming.ROW_STREAMING.name()));
+        assertThat(streaming.getTags().get("store"), is("true"));
+
+        // with the fetch size of the task, a buffered result set would be fully read already,
+        // a streaming one holds the connection until it's read
+        try (
+            Connection connection = task.connection(runContext);
+            Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)
+        ) {
+            statement.setFetchSize(task.renderFetchSize(runContext));
+
+            try (ResultSet rs = statement.executeQuery("select 1 union all select 2")) {
+                assertThat(rs.next(), is(true));
+                assertThrows(SQLException.class, () -> connection.createStatement().executeQuery("select 3"));
+            }
+        }
+    }
+
     @ParameterizedTest
     @EnumSource(FetchType.class)
     void updateWithAllFetchType(FetchType fetchType) throws Exception {
@@ -24,12 +24,21 @@ public class OracleCellConverter extends AbstractCellConverter {
         super(zoneId);
     }
 
-    @SneakyThrows
-    @SuppressWarnings("deprecation")
     @Override
-    public Object convertCell(int columnIndex, ResultSet rs, Connection connection) {
-        final Object data = rs.getObject(columnIndex);
+    public Object convertCell(int columnIndex, ResultSet rs, Connection connection) throws SQLException {
+        return this.compile(columnIndex, rs.getMetaData()).read(rs, connection);
+    }
+
+    @Override
+    public CellReader compile(int columnIndex, ResultSetMetaData metaData) throws SQLException {
+        boolean isDate = metaData.getColumnTypeName(columnIndex).equals("DATE");
 
+        return (rs, connection) -> this.convertObject(rs.getObject(columnIndex), isDate, columnIndex, rs, connection);
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("deprecation")
+    private Object convertObject(Object data, boolean isDate, int columnIndex, ResultSet rs, Connection connection) {
         if (data == null) {
             return null;
         }
@@ -83,12 +92,11 @@ public class OracleCellConverter extends AbstractCellConverter {
             return col.toLocalDateTime(connection);
         }
 
-        String columnTypeName = rs.getMetaData().getColumnTypeName(columnIndex);
-        if (columnTypeName.equals("DATE")) {
+        if (isDate) {
             return ((Timestamp) data).toLocalDateTime().toLocalDate();
         }
 
-        return super.convert(columnIndex, rs);
+        return super.convert(data, columnIndex, rs);
     }
 
     @Override
@@ -7,17 +7,19 @@ import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.jdbc.StoreCompression;
+import io.kestra.plugin.jdbc.StreamingUpload;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.postgresql.copy.CopyManager;
 import org.postgresql.core.BaseConnection;
 import org.slf4j.Logger;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
+import java.io.OutputStream;
 import java.net.URI;
-import java.nio.file.Path;
 import java.sql.Connection;
 
 @SuperBuilder
@@ -81,15 +83,25 @@ public class CopyOut extends AbstractCopy implements RunnableTask<CopyOut.Output
     )
     protected Property<String> sql;
 
+    @Schema(
+        title = "The compression of the file created.",
+        description = "The file is compressed while the copy is received, its extension gets a `.gz` or `.zst` suffix."
+    )
+    @NotNull
+    @Builder.Default
+    protected Property<StoreCompression> compression = Property.of(StoreCompression.NONE);
+
+    @Schema(
+        title = "The compression level used with `compression`.",
+        description = "From 1 to 9 for GZIP (default 6), from 1 to 19 for ZSTD (default 3)."
+    )
+    protected Property<Integer> compressionLevel;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
-        Path path = runContext.workingDir().createTempFile();
 
-        try (
-            Connection connection = this.connection(runContext);
-            BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(path.toFile()));
-        ) {
+        try (Connection connection = this.connection(runContext)) {
             BaseConnection pgConnection = connection.unwrap(BaseConnection.class);
             CopyManager copyManager = new CopyManager(pgConnection);
 
@@ -97,14 +109,26 @@ public class CopyOut extends AbstractCopy implements RunnableTask<CopyOut.Output
 
             logger.debug("Starting query: {}", sql);
 
-            long rowsAffected  = copyManager.copyOut(sql, bufferedWriter);
-            runContext.metric(Counter.of("rows", rowsAffected));
+            StoreCompression compressionRendered = runContext.render(this.compression).as(StoreCompression.class).orElseThrow();
+            Integer compressionLevelRendered = runContext.render(this.compressionLevel).as(Integer.class).orElse(null);
 
-            bufferedWriter.flush();
+            // the copy is compressed and streamed to the internal storage while it's received
+            StreamingUpload.Result<Long> upload = StreamingUpload.of(
+                runContext,
+                IdUtils.create() + compressionRendered.getExtension(),
+                outputStream -> {
+                    try (OutputStream compressed = compressionRendered.wrap(outputStream, compressionLevelRendered)) {
+                        return copyManager.copyOut(sql, compressed);
+                    }
+                }
+            );
+
+            long rowsAffected = upload.value();
+            runContext.metric(Counter.of("rows", rowsAffected));
 
             return Output
                 .builder()
-                .uri(runContext.storage().putFile(path.toFile()))
+                .uri(upload.uri())
                 .rowCount(rowsAffected)
                 .build();
         }
@@ -12,7 +12,10 @@ import org.postgresql.util.HStoreConverter;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -25,37 +28,50 @@ public class PostgresCellConverter extends AbstractCellConverter {
 
     @Override
     public Object convertCell(int columnIndex, ResultSet rs, Connection connection) throws SQLException {
+        return this.compile(columnIndex, rs.getMetaData()).read(rs, connection);
+    }
 
-        Object data = rs.getObject(columnIndex);
+    @Override
+    public CellReader compile(int columnIndex, ResultSetMetaData metaData) throws SQLException {
+        String pgColumnType = metaData.getColumnTypeName(columnIndex);
+
+        return switch (pgColumnType.toLowerCase()) {
+            case "time" -> (rs, connection) -> {
+                Time time = rs.getTime(columnIndex);
+                return time == null ? null : LocalTime.parse(time.toString());
+            };
+            // FIXME : Since Time uses 01-01-1970 by default, timezone needs to be adjusted
+            case "timetz", "time with time zone" -> (rs, connection) -> {
+                Timestamp timestamp = rs.getTimestamp(columnIndex);
+                return timestamp == null ? null : LocalTime.from(timestamp.toInstant().atZone(zoneId));
+            };
+            case "timestamp" -> (rs, connection) -> {
+                Timestamp timestamp = rs.getTimestamp(columnIndex);
+                return timestamp == null ? null : timestamp.toLocalDateTime();
+            };
+            case "timestamptz", "timestamp with time zone" -> (rs, connection) -> {
+                Timestamp timestamp = rs.getTimestamp(columnIndex);
+                return timestamp == null ? null : timestamp.toInstant().atZone(zoneId);
+            };
+            case "interval" -> (rs, connection) -> {
+                PGInterval interval = (PGInterval) rs.getObject(columnIndex);
+                // Returns an iso 8601 duration format
+                return interval == null ? null : getISO8601Interval(interval.getYears(), interval.getMonths(), interval.getDays(), interval.getHours(), interval.getMinutes(), (int) interval.getSeconds());
+            };
+            case "hstore" -> (rs, connection) -> {
+                // Convert hstore to a Map<String, String>
+                String hstore = rs.getString(columnIndex);
+                return hstore == null ? null : HStoreConverter.fromString(hstore);
+            };
+            default -> (rs, connection) -> this.convertObject(rs.getObject(columnIndex), columnIndex, rs);
+        };
+    }
 
+    private Object convertObject(Object data, int columnIndex, ResultSet rs) throws SQLException {
         if (data == null) {
             return null;
         }
 
-        String pgColumnType = rs.getMetaData().getColumnTypeName(columnIndex);
-
-        switch (pgColumnType.toLowerCase()) {
-            case "time":
-                return LocalTime.parse(rs.getTime(columnIndex).toString());
-            case "timetz":
-            case "time with time zone":
-                // FIXME : Since Time uses 01-01-1970 by default, timezone needs to be adjusted
-                return LocalTime.from(rs.getTimestamp(columnIndex).toInstant().atZone(zoneId));
-            case "timestamp":
-                return rs.getTimestamp(columnIndex).toLocalDateTime();
-            case "timestamptz":
-            case "timestamp with time zone":
-                return rs.getTimestamp(columnIndex).toInstant().atZone(zoneId);
-            case "interval":
-                PGInterval interval = (PGInterval) data;
-                // Returns an iso 8601 duration format
-                return getISO8601Interval(interval.getYears(), interval.getMonths(), interval.getDays(), interval.getHours(), interval.getMinutes(), (int) interval.getSeconds());
-            case "hstore":
-                // Convert hstore to a Map<String, String>
-                Map<String, String> hstoreMap = HStoreConverter.fromString(rs.getString(columnIndex));
-                return hstoreMap;
-        }
-
         Class<?> clazz = data.getClass();
 
         // PgArray
@@ -86,7 +102,7 @@ public class PostgresCellConverter extends AbstractCellConverter {
             }
         }
 
-        return super.convert(columnIndex, rs);
+        return super.convert(data, columnIndex, rs);
     }
 
     private String getISO8601Interval(int years, int months, int days, int hours, int minutes, int seconds) {
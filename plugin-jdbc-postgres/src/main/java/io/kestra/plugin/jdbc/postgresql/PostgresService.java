@@ -25,8 +25,32 @@ import java.security.Provider;
 import java.security.Security;
 import java.util.Locale;
 import java.util.Properties;
+import java.util.regex.Pattern;
 
 public abstract class PostgresService {
+    private static final Pattern LEADING_COMMENTS = Pattern.compile("^(\\s|--[^\\n]*(\\n|$)|/\\*.*?\\*/|\\()+", Pattern.DOTALL);
+    private static final Pattern READ_ONLY_START = Pattern.compile("^(SELECT|WITH|VALUES|TABLE)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WRITE_KEYWORDS = Pattern.compile(
+        "\\b(INSERT|UPDATE|DELETE|MERGE|INTO|SHARE|NEXTVAL|SETVAL)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Whether the query is a single statement that reads data, so its results can be fetched through a cursor.
+     * It's a conservative guess on the SQL text: a query that contains a keyword able to write (even in a literal) is not
+     * considered read-only, but a selected function may still write.
+     */
+    public static boolean isReadOnlyQuery(String sql) {
+        String query = LEADING_COMMENTS.matcher(sql.strip()).replaceFirst("");
+        if (query.endsWith(";")) {
+            query = query.substring(0, query.length() - 1);
+        }
+
+        return READ_ONLY_START.matcher(query).find()
+            && query.indexOf(';') < 0
+            && !WRITE_KEYWORDS.matcher(query).find();
+    }
+
     public static void handleSsl(Properties properties, RunContext runContext, PostgresConnectionInterface conn) throws Exception {
         if (conn.getSsl() != null && runContext.render(conn.getSsl()).as(Boolean.class).orElseThrow()) {
             properties.put("ssl", "true");
@@ -7,6 +7,7 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.jdbc.AbstractCellConverter;
 import io.kestra.plugin.jdbc.AbstractJdbcQueries;
+import io.kestra.plugin.jdbc.SqlScriptSplitter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -93,6 +94,11 @@ public class Queries extends AbstractJdbcQueries implements RunnableTask<Abstrac
         return properties;
     }
 
+    @Override
+    protected SqlScriptSplitter.Dialect scriptDialect() {
+        return SqlScriptSplitter.Dialect.POSTGRES;
+    }
+
     @Override
     protected AbstractCellConverter getCellConverter(ZoneId zoneId) {
         return new PostgresCellConverter(zoneId);
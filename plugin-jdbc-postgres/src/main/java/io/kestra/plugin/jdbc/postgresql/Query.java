@@ -4,6 +4,7 @@ import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.jdbc.AbstractCellConverter;
 import io.kestra.plugin.jdbc.AbstractJdbcQuery;
@@ -12,6 +13,7 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.postgresql.Driver;
 
+import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.time.ZoneId;
@@ -72,6 +74,17 @@ public class Query extends AbstractJdbcQuery implements RunnableTask<AbstractJdb
         return properties;
     }
 
+    @Override
+    protected void prepareConnection(RunContext runContext, Connection conn, String sql) throws Exception {
+        // PgJDBC only honors the fetchSize through a cursor, which needs a transaction, otherwise it loads all the rows in memory.
+        // The transaction is not read-only: a selected function may still write, it's committed once the rows are fetched.
+        if (this.renderFetchType(runContext) != FetchType.NONE && PostgresService.isReadOnlyQuery(sql)) {
+            conn.setAutoCommit(false);
+        } else {
+            super.prepareConnection(runContext, conn, sql);
+        }
+    }
+
     @Override
     protected AbstractCellConverter getCellConverter(ZoneId zoneId) {
         return new PostgresCellConverter(zoneId);
@@ -305,6 +305,78 @@ public class BatchTest extends AbstractRdbmsTest {
         assertThat(runOutput.getRowCount(), is(5L));
     }
 
+    @Test
+    public void parallelInsert() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".trs");
+        OutputStream output = new FileOutputStream(tempFile);
+
+        for (int i = 0; i < 1000; i++) {
+            FileSerde.write(output, ImmutableMap.builder()
+                .put("id", i)
+                .put("name", "kestra")
+                .put("address", "here")
+                .build()
+            );
+        }
+
+        URI uri = storageInterface.put(null, null, URI.create("/" + IdUtils.create() + ".ion"), new FileInputStream(tempFile));
+
+        Batch task = Batch.builder()
+            .url(Property.of(TestUtils.url()))
+            .username(Property.of(TestUtils.username()))
+            .password(Property.of(TestUtils.password()))
+            .ssl(Property.of(TestUtils.ssl()))
+            .sslMode(Property.of(TestUtils.sslMode()))
+            .sslRootCert(Property.of(TestUtils.ca()))
+            .sslCert(Property.of(TestUtils.cert()))
+            .sslKey(Property.of(TestUtils.key()))
+            .sslKeyPassword(Property.of(TestUtils.keyPass()))
+            .from(Property.of(uri.toString()))
+            .sql(Property.of("insert into namedInsert values( ? , ? , ? )"))
+            .chunk(Property.of(100))
+            .parallelism(Property.of(4))
+            .ordered(Property.of(true))
+            .build();
+
+        AbstractJdbcBatch.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getRowCount(), is(1000L));
+        assertThat(runOutput.getUpdatedCount(), is(1000));
+    }
+
+    @Test
+    public void csvInsert() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        String csv = "address,id,name\n" +
+            "here,1,kestra\n" +
+            "\"there, and there\",2,\n";
+
+        URI uri = storageInterface.put(null, null, URI.create("/" + IdUtils.create() + ".csv"), new ByteArrayInputStream(csv.getBytes()));
+
+        Batch task = Batch.builder()
+            .url(Property.of(TestUtils.url()))
+            .username(Property.of(TestUtils.username()))
+            .password(Property.of(TestUtils.password()))
+            .ssl(Property.of(TestUtils.ssl()))
+            .sslMode(Property.of(TestUtils.sslMode()))
+            .sslRootCert(Property.of(TestUtils.ca()))
+            .sslCert(Property.of(TestUtils.cert()))
+            .sslKey(Property.of(TestUtils.key()))
+            .sslKeyPassword(Property.of(TestUtils.keyPass()))
+            .from(Property.of(uri.toString()))
+            .format(Property.of(AbstractJdbcBatch.InputFormat.CSV))
+            .sql(Property.of("insert into namedInsert(address, id, name) values( ? , ? , ? )"))
+            .build();
+
+        AbstractJdbcBatch.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getRowCount(), is(2L));
+        assertThat(runOutput.getUpdatedCount(), is(2));
+    }
+
     @Override
     protected String getUrl() {
         return TestUtils.url();
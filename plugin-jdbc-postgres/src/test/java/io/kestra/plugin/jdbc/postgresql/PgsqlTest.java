@@ -25,6 +25,7 @@ import java.math.BigDecimal;
 import java.net.URISyntaxException;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.*;
 import java.util.Map;
@@ -207,6 +208,67 @@ public class PgsqlTest extends AbstractRdbmsTest {
         assertThat(lines, is(2));
     }
 
+    @Test
+    void selectAndFetchThroughCursor() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query task = Query.builder()
+            .url(Property.of(TestUtils.url()))
+            .username(Property.of(TestUtils.username()))
+            .password(Property.of(TestUtils.password()))
+            .ssl(Property.of(TestUtils.ssl()))
+            .sslMode(Property.of(TestUtils.sslMode()))
+            .sslRootCert(Property.of(TestUtils.ca()))
+            .sslCert(Property.of(TestUtils.cert()))
+            .sslKey(Property.of(TestUtils.keyNoPass()))
+            .fetchType(Property.of(FETCH))
+            .fetchSize(Property.of(100))
+            // a cursor is a named portal, listed in pg_cursors while the rows are fetched, unlike the unnamed portal of a plain query
+            .sql(Property.of("-- streamed by batches of fetchSize\nselect i, (select count(*) from pg_cursors where not from_sql) as portals from generate_series(1, 1000) i"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getSize(), is(1000L));
+        assertThat(((Number) runOutput.getRows().getFirst().get("portals")).intValue(), greaterThan(0));
+    }
+
+    @Test
+    void selectFunctionThatWritesThroughCursor() throws Exception {
+        try (Connection connection = getConnection()) {
+            connection.createStatement().execute("""
+                DROP TABLE IF EXISTS cursor_writes;
+                CREATE TABLE cursor_writes (i int);
+                CREATE OR REPLACE FUNCTION cursor_write() RETURNS int AS $$
+                    INSERT INTO cursor_writes VALUES (1) RETURNING i
+                $$ LANGUAGE SQL;
+                """);
+        }
+
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query task = Query.builder()
+            .url(Property.of(TestUtils.url()))
+            .username(Property.of(TestUtils.username()))
+            .password(Property.of(TestUtils.password()))
+            .ssl(Property.of(TestUtils.ssl()))
+            .sslMode(Property.of(TestUtils.sslMode()))
+            .sslRootCert(Property.of(TestUtils.ca()))
+            .sslCert(Property.of(TestUtils.cert()))
+            .sslKey(Property.of(TestUtils.keyNoPass()))
+            .fetchType(Property.of(FETCH_ONE))
+            .sql(Property.of("select cursor_write() as written"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getRow().get("written"), is(1));
+
+        // the transaction of the cursor is committed
+        try (Connection connection = getConnection(); ResultSet rs = connection.createStatement().executeQuery("SELECT count(*) FROM cursor_writes")) {
+            rs.next();
+            assertThat(rs.getInt(1), is(1));
+        }
+    }
+
     @Test
     void selectWithCompositeType() throws Exception {
 
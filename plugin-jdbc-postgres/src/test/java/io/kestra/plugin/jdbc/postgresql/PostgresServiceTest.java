@@ -0,0 +1,19 @@
+package io.kestra.plugin.jdbc.postgresql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class PostgresServiceTest {
+    @Test
+    void isReadOnlyQuery() {
+        assertThat(PostgresService.isReadOnlyQuery("/* export */ (SELECT 1);"), is(true));
+        assertThat(PostgresService.isReadOnlyQuery("-- comment\nselect i from generate_series(1, 10) i"), is(true));
+        assertThat(PostgresService.isReadOnlyQuery("WITH a AS (SELECT 1) SELECT * FROM a"), is(true));
+        assertThat(PostgresService.isReadOnlyQuery("WITH a AS (DELETE FROM t RETURNING *) SELECT * FROM a"), is(false));
+        assertThat(PostgresService.isReadOnlyQuery("SELECT * FROM t FOR UPDATE"), is(false));
+        assertThat(PostgresService.isReadOnlyQuery("SELECT 1; CREATE TABLE t (i int)"), is(false));
+        assertThat(PostgresService.isReadOnlyQuery("INSERT INTO t VALUES (1) RETURNING i"), is(false));
+    }
+}
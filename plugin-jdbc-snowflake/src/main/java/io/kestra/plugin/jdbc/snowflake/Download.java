@@ -6,17 +6,14 @@ import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.IdUtils;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import net.snowflake.client.jdbc.SnowflakeConnection;
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 
-import java.io.BufferedOutputStream;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.net.URI;
 import java.sql.Connection;
@@ -78,33 +75,27 @@ public class Download extends AbstractSnowflakeConnection implements RunnableTas
     @Override
     public Download.Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
-        File tempFile = runContext.workingDir().createTempFile().toFile();
 
-        try (
-            Connection conn = this.connection(runContext);
-            BufferedOutputStream outputStream = new BufferedOutputStream(new FileOutputStream(tempFile))
-        ) {
+        try (Connection conn = this.connection(runContext)) {
             String stageName = runContext.render(this.stageName).as(String.class).orElseThrow();
             String filename = runContext.render(this.fileName).as(String.class).orElseThrow();
 
             logger.info("Starting download from stage '{}' with name '{}'", stageName, filename);
 
-            InputStream inputStream = conn
+            // the download stream goes straight to the internal storage, without a local copy
+            try (InputStream inputStream = conn
                 .unwrap(SnowflakeConnection.class)
                 .downloadStream(
                     stageName,
                     filename,
                     runContext.render(this.compress).as(Boolean.class).orElseThrow()
-                );
-
-            IOUtils.copyLarge(inputStream, outputStream);
-
-            outputStream.flush();
-
-            return Output
-                .builder()
-                .uri(runContext.storage().putFile(tempFile))
-                .build();
+                )
+            ) {
+                return Output
+                    .builder()
+                    .uri(runContext.storage().putFile(inputStream, IdUtils.create()))
+                    .build();
+            }
         }
     }
 
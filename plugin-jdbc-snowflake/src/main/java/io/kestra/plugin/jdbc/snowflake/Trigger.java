@@ -78,6 +78,7 @@ public class Trigger extends AbstractJdbcTrigger implements SnowflakeInterface {
             .fetchOne(this.isFetchOne())
             .fetchType(Property.of(this.renderFetchType(runContext)))
             .fetchSize(this.getFetchSize())
+            .pooled(this.getPooled())
             .additionalVars(this.additionalVars)
             .warehouse(this.getWarehouse())
             .database(this.getDatabase())
@@ -129,6 +129,8 @@ public class Query extends AbstractJdbcQuery implements RunnableTask<AbstractJdb
             .rows(queryOutput.getRows())
             .size(queryOutput.getSize())
             .uri(queryOutput.getUri())
+            .uris(queryOutput.getUris())
+            .partitions(queryOutput.getPartitions())
             .build();
     }
 
@@ -73,6 +73,7 @@ public class Trigger extends AbstractJdbcTrigger implements SqliteQueryInterface
             .fetchOne(this.isFetchOne())
             .fetchType(Property.of(this.renderFetchType(runContext)))
             .fetchSize(this.getFetchSize())
+            .pooled(this.getPooled())
             .additionalVars(this.additionalVars)
             .parameters(this.getParameters())
             .outputDbFile(this.getOutputDbFile())
@@ -121,6 +121,69 @@ public class SqliteQueriesTest extends AbstractRdbmsTest {
         assertThat(verifyOutput.getOutputs().getFirst().getRow().get("transaction_count"), is(1));
     }
 
+    @Test
+    void pipelinedStatementsAreRolledBack() throws Exception {
+        RunContext runContext = runContextFactory.of(Collections.emptyMap());
+
+        Queries pipelined = Queries.builder()
+            .url(Property.of(getUrl()))
+            .username(Property.of(getUsername()))
+            .password(Property.of(getPassword()))
+            .fetchType(Property.of(FETCH_ONE))
+            .timeZoneId(Property.of("Europe/Paris"))
+            .sql(Property.of("""
+                DROP TABLE IF EXISTS test_pipeline;
+                CREATE TABLE test_pipeline(id INTEGER PRIMARY KEY);
+                INSERT INTO test_pipeline (id) VALUES (1);
+                INSERT INTO test_pipeline (id) VALUES (2);
+                SELECT COUNT(id) as pipeline_count FROM test_pipeline;
+                """))
+            .build();
+
+        AbstractJdbcQueries.MultiQueryOutput runOutput = pipelined.run(runContext);
+        assertThat(runOutput.getOutputs().getFirst().getRow().get("pipeline_count"), is(2));
+        assertThat(metric(runContext, "query.pipelined"), is(4.0));
+
+        // the batch fails on its last statement, the previous ones are rolled back
+        RunContext failedRunContext = runContextFactory.of(Collections.emptyMap());
+        Queries failing = Queries.builder()
+            .url(Property.of(getUrl()))
+            .username(Property.of(getUsername()))
+            .password(Property.of(getPassword()))
+            .fetchType(Property.of(FETCH_ONE))
+            .timeZoneId(Property.of("Europe/Paris"))
+            .sql(Property.of("""
+                INSERT INTO test_pipeline (id) VALUES (3);
+                UPDATE test_pipeline SET id = id + 10 WHERE id = 1;
+                INSERT INTO test_pipeline (id) VALUES (2);
+                """))
+            .build();
+
+        assertThrows(Exception.class, () -> failing.run(failedRunContext));
+
+        Queries verify = Queries.builder()
+            .url(Property.of(getUrl()))
+            .username(Property.of(getUsername()))
+            .password(Property.of(getPassword()))
+            .fetchType(Property.of(FETCH_ONE))
+            .timeZoneId(Property.of("Europe/Paris"))
+            .sql(Property.of("SELECT COUNT(id) as pipeline_count, MAX(id) as max_id FROM test_pipeline;"))
+            .build();
+
+        AbstractJdbcQueries.MultiQueryOutput verifyOutput = verify.run(runContext);
+        assertThat(verifyOutput.getOutputs().getFirst().getRow().get("pipeline_count"), is(2));
+        assertThat(verifyOutput.getOutputs().getFirst().getRow().get("max_id"), is(2));
+    }
+
+    private static Double metric(RunContext runContext, String name) {
+        return runContext.metrics()
+            .stream()
+            .filter(metric -> metric.getName().equals(name))
+            .map(metric -> ((Number) metric.getValue()).doubleValue())
+            .findFirst()
+            .orElseThrow();
+    }
+
     @Test
     void testNonTransactionalShouldNotRollback() throws Exception {
         RunContext runContext = runContextFactory.of(Collections.emptyMap());
@@ -161,6 +224,70 @@ public class SqliteQueriesTest extends AbstractRdbmsTest {
         assertThat(verifyOutput.getOutputs().getFirst().getRow().get("transaction_count"), is(1));
     }
 
+    @Test
+    void scriptWithTriggerAndSemicolonsInLiterals() throws Exception {
+        RunContext runContext = runContextFactory.of(Collections.emptyMap());
+
+        Queries task = Queries.builder()
+            .url(Property.of(getUrl()))
+            .username(Property.of(getUsername()))
+            .password(Property.of(getPassword()))
+            .fetchType(Property.of(FETCH_ONE))
+            .timeZoneId(Property.of("Europe/Paris"))
+            .sql(Property.of("""
+                DROP TABLE IF EXISTS test_script;
+                DROP TABLE IF EXISTS test_script_log;
+                CREATE TABLE test_script(id INTEGER PRIMARY KEY, label TEXT);
+                CREATE TABLE test_script_log(label TEXT);
+                -- a trigger body holds several statements;
+                CREATE TRIGGER test_script_insert AFTER INSERT ON test_script
+                BEGIN
+                    INSERT INTO test_script_log (label) VALUES (NEW.label);
+                    INSERT INTO test_script_log (label) VALUES ('second;');
+                END;
+                /* a comment; with a semicolon */
+                INSERT INTO test_script (id, label) VALUES (1, ';first');
+                SELECT COUNT(*) as log_count, MIN(label) as first_label FROM test_script_log;
+                """))
+            .build();
+
+        AbstractJdbcQueries.MultiQueryOutput runOutput = task.run(runContext);
+        assertThat(runOutput.getOutputs().size(), is(1));
+        assertThat(runOutput.getOutputs().getFirst().getRow().get("log_count"), is(2));
+        assertThat(runOutput.getOutputs().getFirst().getRow().get("first_label"), is(";first"));
+    }
+
+    @Test
+    void parallelSelectsKeepTheirOrder() throws Exception {
+        RunContext runContext = runContextFactory.of(Collections.emptyMap());
+
+        Queries task = Queries.builder()
+            .url(Property.of(getUrl()))
+            .username(Property.of(getUsername()))
+            .password(Property.of(getPassword()))
+            .fetchType(Property.of(FETCH))
+            .transaction(Property.of(false))
+            .parallelism(Property.of(2))
+            .timeZoneId(Property.of("Europe/Paris"))
+            .sql(Property.of("""
+                SELECT firstName FROM employee WHERE age > 40 ORDER BY age;
+                SELECT brand FROM laptop WHERE brand = 'Apple';
+                -- @group
+                CREATE TEMP TABLE test_parallel AS SELECT model FROM laptop WHERE brand = 'LG';
+                SELECT model FROM test_parallel;
+                -- @end
+                SELECT brand FROM laptop WHERE brand = 'LG';
+                """))
+            .build();
+
+        AbstractJdbcQueries.MultiQueryOutput runOutput = task.run(runContext);
+        assertThat(runOutput.getOutputs().size(), is(4));
+        assertThat(runOutput.getOutputs().get(0).getRows().size(), is(2));
+        assertThat(runOutput.getOutputs().get(1).getRows().size(), is(2));
+        assertThat(runOutput.getOutputs().get(2).getRows().getFirst().get("model"), is("Gram"));
+        assertThat(runOutput.getOutputs().get(3).getRows().getFirst().get("brand"), is("LG"));
+    }
+
     @Test
     void selectFromExistingDatabaseAndOutputDatabase() throws Exception {
         RunContext runContext = runContextFactory.of(ImmutableMap.of());
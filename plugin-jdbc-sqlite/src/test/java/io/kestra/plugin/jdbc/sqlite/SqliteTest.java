@@ -1,16 +1,29 @@
 package io.kestra.plugin.jdbc.sqlite;
 
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.google.common.collect.ImmutableMap;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.jdbc.AbstractJdbcBaseQuery;
 import io.kestra.plugin.jdbc.AbstractJdbcQuery;
 import io.kestra.plugin.jdbc.AbstractRdbmsTest;
+import io.kestra.plugin.jdbc.StoreCompression;
 import io.kestra.core.junit.annotations.KestraTest;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.Test;
 
+import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -20,8 +33,12 @@ import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.zip.GZIPInputStream;
 
 import static io.kestra.core.models.tasks.common.FetchType.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -104,6 +121,214 @@ public class SqliteTest extends AbstractRdbmsTest {
         assertThat(runOutput.getRow().get("TracksPurchased"), is(835));
     }
 
+    @Test
+    void selectAndFetchToFile() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query task = chinookStoreQuery()
+            .sql(Property.of("SELECT GenreId, Name, NULL AS empty FROM Genre ORDER BY GenreId"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getUri(), notNullValue());
+        assertThat(runOutput.getSize(), is(25L));
+
+        List<Object> rows;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, runOutput.getUri())))) {
+            rows = FileSerde.readAll(reader).collectList().block();
+        }
+
+        assertThat(rows, hasSize(25));
+        Map<?, ?> first = (Map<?, ?>) rows.getFirst();
+        assertThat(first.get("GenreId"), is(1));
+        assertThat(first.get("Name"), is("Rock"));
+        assertThat(first.containsKey("empty"), is(true));
+        assertThat(first.get("empty"), nullValue());
+    }
+
+    @Test
+    void selectAndFetchToBinaryFile() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query task = chinookStoreQuery()
+            .storeFormat(Property.of(AbstractJdbcBaseQuery.StoreFormat.ION_BINARY))
+            .sql(Property.of("SELECT GenreId, Name FROM Genre ORDER BY GenreId"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getSize(), is(25L));
+        assertThat(runOutput.getUri().getPath(), endsWith(".10n"));
+
+        List<Object> rows;
+        try (MappingIterator<Object> iterator = JacksonMapper.ofIon().readerFor(Object.class).readValues(storageInterface.get(null, null, runOutput.getUri()))) {
+            rows = iterator.readAll();
+        }
+
+        assertThat(rows, hasSize(25));
+        assertThat(((Map<?, ?>) rows.getLast()).get("GenreId"), is(25));
+        assertThat(((Map<?, ?>) rows.getFirst()).get("Name"), is("Rock"));
+    }
+
+    @Test
+    void selectAndFetchToCompressedFile() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query task = chinookStoreQuery()
+            .storeCompression(Property.of(StoreCompression.GZIP))
+            .storeCompressionLevel(Property.of(1))
+            .sql(Property.of("SELECT GenreId, Name FROM Genre ORDER BY GenreId"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getUri().getPath(), endsWith(".ion.gz"));
+        assertThat(runOutput.getSize(), is(25L));
+
+        List<Object> rows;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(storageInterface.get(null, null, runOutput.getUri()))))) {
+            rows = FileSerde.readAll(reader).collectList().block();
+        }
+
+        assertThat(rows, hasSize(25));
+        assertThat(((Map<?, ?>) rows.getFirst()).get("Name"), is("Rock"));
+    }
+
+    @Test
+    void selectAndFetchToSplitFiles() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query task = chinookStoreQuery()
+            .maxRowsPerFile(Property.of(10L))
+            .sql(Property.of("SELECT GenreId, Name FROM Genre ORDER BY GenreId"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getSize(), is(25L));
+        assertThat(runOutput.getUri(), nullValue());
+        assertThat(runOutput.getUris(), hasSize(3));
+
+        List<Integer> sizes = new ArrayList<>();
+        for (URI uri : runOutput.getUris()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, uri)))) {
+                sizes.add(FileSerde.readAll(reader).collectList().block().size());
+            }
+        }
+        assertThat(sizes, contains(10, 10, 5));
+    }
+
+    @Test
+    void selectAndFetchToPartitionedFiles() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query task = chinookStoreQuery()
+            .partitionBy(Property.of(List.of("parity")))
+            .maxOpenPartitions(Property.of(1))
+            .sql(Property.of("SELECT GenreId, Name, GenreId % 2 AS parity FROM Genre ORDER BY parity, GenreId"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getSize(), is(25L));
+        assertThat(runOutput.getPartitions().keySet(), contains("parity=0", "parity=1"));
+        assertThat(runOutput.getPartitions().get("parity=0"), hasSize(1));
+        assertThat(runOutput.getPartitions().get("parity=1"), hasSize(1));
+
+        List<Object> rows;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, runOutput.getPartitions().get("parity=1").getFirst())))) {
+            rows = FileSerde.readAll(reader).collectList().block();
+        }
+        assertThat(rows, hasSize(13));
+        assertThat(((Map<?, ?>) rows.getFirst()).get("Name"), is("Rock"));
+    }
+
+    @Test
+    void selectSplitByRanges() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query task = chinookStoreQuery()
+            .splitBy(Property.of("GenreId"))
+            .parallelism(Property.of(3))
+            // a trailing line comment must not comment out the end of the derived table
+            .sql(Property.of("SELECT GenreId, Name FROM Genre -- all the genres"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getSize(), is(25L));
+        assertThat(runOutput.getUris(), hasSize(3));
+
+        List<Object> genreIds = new ArrayList<>();
+        for (URI uri : runOutput.getUris()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, uri)))) {
+                FileSerde.readAll(reader).collectList().block().forEach(row -> genreIds.add(((Map<?, ?>) row).get("GenreId")));
+            }
+        }
+        assertThat(genreIds, hasSize(25));
+        assertThat(genreIds.getFirst(), is(1));
+        assertThat(genreIds.getLast(), is(25));
+    }
+
+    @Test
+    void pooledConnectionIsReused() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query create = pooledQuery()
+            .sql(Property.of("CREATE TEMP TABLE IF NOT EXISTS pooled_session AS SELECT 1 AS reused"))
+            .build();
+        create.run(runContext);
+
+        // a temporary table only exists on the connection that created it
+        Query select = pooledQuery()
+            .fetchType(Property.of(FETCH_ONE))
+            .sql(Property.of("SELECT reused FROM pooled_session"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = select.run(runContext);
+        assertThat(runOutput.getRow().get("reused"), is(1));
+    }
+
+    @Test
+    void pooledStatementIsReusedWithNewParameters() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        for (int value : List.of(1, 2)) {
+            Query query = pooledQuery()
+                .fetchType(Property.of(FETCH_ONE))
+                .sql(Property.of("SELECT :value AS value"))
+                .parameters(Property.of(Map.of("value", value)))
+                .build();
+
+            AbstractJdbcQuery.Output runOutput = query.run(runContext);
+            assertThat(runOutput.getRow().get("value"), is(value));
+        }
+    }
+
+    @Test
+    void selectAndFetchToArrowFile() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        Query task = chinookStoreQuery()
+            .storeFormat(Property.of(AbstractJdbcBaseQuery.StoreFormat.ARROW))
+            .sql(Property.of("SELECT GenreId, Name FROM Genre ORDER BY GenreId"))
+            .build();
+
+        AbstractJdbcQuery.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getUri().getPath(), endsWith(".arrows"));
+        assertThat(runOutput.getSize(), is(25L));
+
+        try (
+            BufferAllocator allocator = new RootAllocator();
+            ArrowStreamReader reader = new ArrowStreamReader(storageInterface.get(null, null, runOutput.getUri()), allocator)
+        ) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            assertThat(root.getSchema().getFields().stream().map(Field::getName).toList(), contains("GenreId", "Name"));
+
+            assertThat(reader.loadNextBatch(), is(true));
+            assertThat(root.getRowCount(), is(25));
+            assertThat(((IntVector) root.getVector("GenreId")).get(0), is(1));
+            assertThat(((IntVector) root.getVector("GenreId")).get(24), is(25));
+            assertThat(root.getVector("Name").getObject(0).toString(), is("Rock"));
+            assertThat(reader.loadNextBatch(), is(false));
+        }
+    }
+
     @Test
     void selectFromExistingDatabaseAndOutputDatabase() throws Exception {
         RunContext runContext = runContextFactory.of(ImmutableMap.of());
@@ -198,6 +423,36 @@ public class SqliteTest extends AbstractRdbmsTest {
         assertThat(runOutput.getRow().get("d"), is("D"));
     }
 
+    /**
+     * A STORE query on a copy of the Chinook database, each test sets the options it checks and the SQL.
+     */
+    private Query.QueryBuilder<?, ?> chinookStoreQuery() throws Exception {
+        URL resource = SqliteTest.class.getClassLoader().getResource("db/Chinook_Sqlite.sqlite");
+
+        URI input = storageInterface.put(
+            null,
+            null,
+            new URI("/file/storage/get.yml"),
+            new FileInputStream(Objects.requireNonNull(resource).getFile())
+        );
+
+        return Query.builder()
+            .url(Property.of("jdbc:sqlite:Chinook_Sqlite.sqlite"))
+            .username(Property.of(getUsername()))
+            .password(Property.of(getPassword()))
+            .fetchType(Property.of(STORE))
+            .timeZoneId(Property.of("Europe/Paris"))
+            .sqliteFile(Property.of(input.toString()));
+    }
+
+    private Query.QueryBuilder<?, ?> pooledQuery() {
+        return Query.builder()
+            .url(Property.of(getUrl()))
+            .username(Property.of(getUsername()))
+            .password(Property.of(getPassword()))
+            .pooled(Property.of(true));
+    }
+
     @Override
     protected String getUrl() {
         return TestUtils.url();
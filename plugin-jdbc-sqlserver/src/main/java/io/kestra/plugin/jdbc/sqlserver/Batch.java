@@ -92,6 +92,12 @@ public class Batch extends AbstractJdbcBatch implements RunnableTask<AbstractJdb
         return new SqlServerCellConverter(zoneId);
     }
 
+    @Override
+    protected MultiRowInsert multiRowInsert() {
+        // a request has at most 2100 parameters, and a VALUES clause 1000 rows
+        return new MultiRowInsert(2000, 1000);
+    }
+
     @Override
     public void registerDriver() throws SQLException {
         // only register the driver if not already exist to avoid a memory leak
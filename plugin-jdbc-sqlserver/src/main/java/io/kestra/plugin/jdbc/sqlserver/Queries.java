@@ -6,6 +6,7 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.plugin.jdbc.AbstractCellConverter;
 import io.kestra.plugin.jdbc.AbstractJdbcQueries;
+import io.kestra.plugin.jdbc.SqlScriptSplitter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -48,6 +49,18 @@ import java.time.ZoneId;
 )
 public class Queries extends AbstractJdbcQueries implements RunnableTask<AbstractJdbcQueries.MultiQueryOutput>, SqlServerConnectionInterface {
 
+    @Override
+    protected SqlScriptSplitter.Dialect scriptDialect() {
+        return SqlScriptSplitter.Dialect.SQLSERVER;
+    }
+
+    @Override
+    protected boolean pipelineStatements() {
+        // the driver sends a JDBC batch as one T-SQL batch, it would merge back the `GO` batches and some statements
+        // (ie: `CREATE VIEW`, `CREATE PROCEDURE`) must be the first one of their batch
+        return false;
+    }
+
     @Override
     protected AbstractCellConverter getCellConverter(ZoneId zoneId) {
         return new SqlServerCellConverter(zoneId);
@@ -110,6 +110,38 @@ public class BatchTest extends AbstractRdbmsTest {
         assertThat(runOutput.getRowCount(), is(5L));
     }
 
+    @Test
+    public void multiRowInsert() throws Exception {
+        RunContext runContext = runContextFactory.of(ImmutableMap.of());
+
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".trs");
+        OutputStream output = new FileOutputStream(tempFile);
+
+        // more rows than a multi-row statement, with some left to be inserted one by one
+        for (int i = 0; i < 1500; i++) {
+            FileSerde.write(output, ImmutableMap.builder()
+                .put("t_id", i)
+                .put("t_name", "Kestra")
+                .put("t_address", "here").build()
+            );
+        }
+
+        URI uri = storageInterface.put(null, null, URI.create("/" + IdUtils.create() + ".ion"), new FileInputStream(tempFile));
+
+        Batch task = Batch.builder()
+            .url(Property.of(getUrl()))
+            .username(Property.of(getUsername()))
+            .password(Property.of(getPassword()))
+            .from(Property.of(uri.toString()))
+            .sql(Property.of("insert into namedInsert values( ? , ? , ? )"))
+            .build();
+
+        AbstractJdbcBatch.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getRowCount(), is(1500L));
+        assertThat(runOutput.getUpdatedCount(), is(1500));
+    }
+
     @Test
     public void namedColumnsInsert() throws Exception {
         RunContext runContext = runContextFactory.of(ImmutableMap.of());
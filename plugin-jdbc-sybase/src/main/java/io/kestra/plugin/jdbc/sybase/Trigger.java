@@ -73,6 +73,7 @@ public class Trigger extends AbstractJdbcTrigger implements SybaseConnectionInte
             .store(this.isStore())
             .fetchOne(this.isFetchOne())
             .fetchType(Property.of(this.renderFetchType(runContext)))
+            .pooled(this.getPooled())
             .additionalVars(this.additionalVars)
             .parameters(this.getParameters())
             .build();
@@ -71,6 +71,7 @@ public class Trigger extends AbstractJdbcTrigger implements VerticaConnectionInt
             .store(this.isStore())
             .fetchOne(this.isFetchOne())
             .fetchType(Property.of(this.renderFetchType(runContext)))
+            .pooled(this.getPooled())
             .additionalVars(this.additionalVars)
             .parameters(this.getParameters())
             .build();
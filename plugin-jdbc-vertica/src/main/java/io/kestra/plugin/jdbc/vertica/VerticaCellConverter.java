@@ -72,6 +72,16 @@ public class VerticaCellConverter extends AbstractCellConverter {
         return super.convert(columnIndex, rs);
     }
 
+    @Override
+    public ParameterBinder compileBinder(AbstractJdbcBatch.ParameterType parameterType, int index) {
+        String type = parameterType.getTypeName(index);
+        if (type != null && type.toLowerCase(Locale.ROOT).startsWith("interval")) {
+            return (ps, value, connection) -> this.addPreparedStatementValue(ps, parameterType, value, index, connection);
+        }
+
+        return super.compileBinder(parameterType, index);
+    }
+
     @Override
     protected PreparedStatement addPreparedStatementValue(
         PreparedStatement ps,
@@ -1,6 +1,6 @@
 package io.kestra.plugin.jdbc;
 
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import java.io.ByteArrayInputStream;
 import java.io.StringReader;
@@ -21,7 +21,16 @@ public abstract class AbstractCellConverter {
 
     public abstract Object convertCell(int columnIndex, ResultSet rs, Connection connection) throws SQLException;
 
-    private static final List<Class<?>> SIMPLE_TYPES = ImmutableList.of(
+    /**
+     * Resolve the conversion of a column once for a whole {@link ResultSet}.
+     * The default implementation delegates to {@link #convertCell(int, ResultSet, Connection)} for every cell,
+     * converters that dispatch on the column metadata should override it to do the dispatch only once.
+     */
+    public CellReader compile(int columnIndex, ResultSetMetaData metaData) throws SQLException {
+        return (rs, connection) -> this.convertCell(columnIndex, rs, connection);
+    }
+
+    private static final Set<Class<?>> SIMPLE_TYPES = ImmutableSet.of(
         java.lang.String.class,
         java.lang.Boolean.class,
         java.lang.Integer.class,
@@ -34,7 +43,10 @@ public abstract class AbstractCellConverter {
     );
 
     protected Object convert(int columnIndex, ResultSet rs) throws SQLException {
-        Object data = rs.getObject(columnIndex);
+        return this.convert(rs.getObject(columnIndex), columnIndex, rs);
+    }
+
+    protected Object convert(Object data, int columnIndex, ResultSet rs) throws SQLException {
         if (data == null) {
             return null;
         }
@@ -83,6 +95,64 @@ public abstract class AbstractCellConverter {
         throw new IllegalArgumentException("Data of type '" + clazz + "' for column '" + columnName + "' is not supported");
     }
 
+    /**
+     * Resolve how the values of a statement parameter are set once for a whole batch.
+     * The parameters of the simple types get a setter selected from their class, the others delegate to
+     * {@link #addPreparedStatementValue(PreparedStatement, AbstractJdbcBatch.ParameterType, Object, int, Connection)}
+     * for every value. Converters that dispatch on something else than the parameter class (ie: the value class or the
+     * parameter type name) must override it, so their dispatch isn't bypassed.
+     */
+    public ParameterBinder compileBinder(AbstractJdbcBatch.ParameterType parameterType, int index) {
+        Class<?> cls = parameterType.getClass(index);
+        ParameterSetter setter = cls == null ? null : simpleSetter(cls);
+
+        if (setter == null) {
+            return (ps, value, connection) -> this.addPreparedStatementValue(ps, parameterType, value, index, connection);
+        }
+
+        Integer type = parameterType.getType(index);
+        return (ps, value, connection) -> {
+            try {
+                if (value == null) {
+                    ps.setNull(index, type);
+                } else {
+                    setter.set(ps, index, value);
+                }
+            } catch (Exception e) {
+                throw addPreparedStatementException(parameterType, index, value, e);
+            }
+        };
+    }
+
+    private static ParameterSetter simpleSetter(Class<?> cls) {
+        if (cls == Integer.class) {
+            return (ps, index, value) -> ps.setInt(index, (Integer) value);
+        } else if (cls == Short.class) {
+            return (ps, index, value) -> ps.setShort(index, Short.parseShort(value.toString()));
+        } else if (cls == String.class) {
+            return (ps, index, value) -> ps.setString(index, (String) value);
+        } else if (cls == UUID.class) {
+            return PreparedStatement::setObject;
+        } else if (cls == Long.class) {
+            return (ps, index, value) -> ps.setLong(index, value instanceof Integer integer ? integer.longValue() : (Long) value);
+        } else if (cls == BigInteger.class) {
+            return (ps, index, value) -> ps.setLong(index, ((BigInteger) value).longValue());
+        } else if (cls == Double.class) {
+            return (ps, index, value) -> ps.setDouble(index, (Double) value);
+        } else if (cls == Float.class) {
+            return (ps, index, value) -> ps.setFloat(index, value instanceof Double current ? current.floatValue() : (Float) value);
+        } else if (cls == BigDecimal.class) {
+            return (ps, index, value) -> ps.setBigDecimal(index, value instanceof Integer integer ? new BigDecimal(integer) : (BigDecimal) value);
+        } else if (cls == Boolean.class) {
+            return (ps, index, value) -> ps.setBoolean(index, (Boolean) value);
+        } else if (cls == byte[].class) {
+            return (ps, index, value) -> ps.setBytes(index, (byte[]) value);
+        }
+
+        // dates, arrays and lobs depend on the value class, they are converted by addPreparedStatementValue
+        return null;
+    }
+
     protected PreparedStatement addPreparedStatementValue(PreparedStatement ps, AbstractJdbcBatch.ParameterType parameterType, Object value, int index, Connection connection) throws Exception {
         Class<?> cls = parameterType.getClass(index);
 
@@ -243,4 +313,19 @@ public abstract class AbstractCellConverter {
             e
         );
     }
+
+    @FunctionalInterface
+    public interface CellReader {
+        Object read(ResultSet rs, Connection connection) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface ParameterBinder {
+        void bind(PreparedStatement ps, Object value, Connection connection) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface ParameterSetter {
+        void set(PreparedStatement ps, int index, Object value) throws SQLException;
+    }
 }
@@ -1,17 +1,18 @@
 package io.kestra.plugin.jdbc;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.Rethrow;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -19,15 +20,13 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.sql.*;
 import java.time.ZoneId;
 import java.util.*;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @SuperBuilder
 @ToString
@@ -43,6 +42,9 @@ public abstract class AbstractJdbcBaseQuery extends Task implements JdbcQueryInt
 
     private Property<String> timeZoneId;
 
+    @Builder.Default
+    private Property<Boolean> pooled = Property.of(false);
+
     protected Property<String> sql;
 
     @Builder.Default
@@ -66,12 +68,66 @@ public abstract class AbstractJdbcBaseQuery extends Task implements JdbcQueryInt
 
     protected Property<Map<String, Object>> parameters;
 
+    @Schema(
+        title = "The format of the file created when `fetchType` is `STORE`.",
+        description = "ION - Amazon Ion text format, one row per line.\n"
+            + "ION_BINARY - Amazon Ion binary format (`.10n`), smaller and faster to read but not human readable.\n"
+            + "ARROW - Apache Arrow IPC stream format (`.arrows`), columnar and typed from the result set metadata. "
+            + "The worker JVM must be started with `--add-opens=java.base/java.nio=ALL-UNNAMED`."
+    )
+    @NotNull
+    @Builder.Default
+    protected Property<StoreFormat> storeFormat = Property.of(StoreFormat.ION);
+
+    @Schema(
+        title = "The compression of the file created when `fetchType` is `STORE`.",
+        description = "The file is compressed while the rows are fetched, its extension gets a `.gz` or `.zst` suffix."
+    )
+    @NotNull
+    @Builder.Default
+    protected Property<StoreCompression> storeCompression = Property.of(StoreCompression.NONE);
+
+    @Schema(
+        title = "The compression level used with `storeCompression`.",
+        description = "From 1 to 9 for GZIP (default 6), from 1 to 19 for ZSTD (default 3)."
+    )
+    protected Property<Integer> storeCompressionLevel;
+
+    @Schema(
+        title = "The maximum number of rows per file when `fetchType` is `STORE`.",
+        description = "When set, rows are split into multiple files, each one uploaded as soon as it's full, and their URIs are returned in the `uris` output."
+    )
+    protected Property<Long> maxRowsPerFile;
+
+    @Schema(
+        title = "The maximum size in bytes per file when `fetchType` is `STORE`.",
+        description = "When set, rows are split into multiple files, each one uploaded as soon as it's full, and their URIs are returned in the `uris` output. "
+            + "The size is checked after each row on the bytes already serialized, so a file can be a little bigger than this limit."
+    )
+    protected Property<Long> maxBytesPerFile;
+
+    @Schema(
+        title = "The columns used to partition the files when `fetchType` is `STORE`.",
+        description = "Each row is written to the files of its partition, named Hive-style from the column values (ie: `date=2024-01-01/tenant=acme`), "
+            + "with the characters like `/` and `=` escaped as in Hive (ie: `date=2024%2F01%2F01`), "
+            + "and the files of each partition are returned in the `partitions` output. "
+            + "Sorting the query by these columns gives a single file per partition."
+    )
+    protected Property<List<String>> partitionBy;
+
+    @Schema(
+        title = "The maximum number of partition files open at the same time with `partitionBy`.",
+        description = "When a new partition comes up, the file of the least recently used partition is closed and uploaded; "
+            + "if this partition shows up again, its rows go to a new file."
+    )
+    @NotNull
+    @Builder.Default
+    protected Property<Integer> maxOpenPartitions = Property.of(16);
+
     @Builder.Default
     @Getter(AccessLevel.NONE)
     protected transient Map<String, Object> additionalVars = new HashMap<>();
 
-    private static final ObjectMapper MAPPER = JacksonMapper.ofIon();
-
     protected abstract AbstractCellConverter getCellConverter(ZoneId zoneId);
 
     protected Statement createStatement(Connection conn) throws SQLException {
@@ -81,6 +137,37 @@ public abstract class AbstractJdbcBaseQuery extends Task implements JdbcQueryInt
         );
     }
 
+    /**
+     * The fetch size to set on the statements, a driver can override it to pick how the results are fetched.
+     */
+    protected Integer renderFetchSize(RunContext runContext) throws IllegalVariableEvaluationException {
+        return runContext.render(this.getFetchSize()).as(Integer.class).orElseThrow();
+    }
+
+    /**
+     * How the driver is asked to fetch the results, null if the task doesn't pick it. Reported by the `fetch.streaming` metric.
+     */
+    protected ResultStreaming resultStreaming(RunContext runContext) throws IllegalVariableEvaluationException {
+        return null;
+    }
+
+    /**
+     * Count a fetched result in the `fetch.streaming` metric, tagged with the mode the driver was asked to use.
+     */
+    protected void streamingMetric(RunContext runContext) throws IllegalVariableEvaluationException {
+        ResultStreaming mode = this.resultStreaming(runContext);
+        if (mode == null) {
+            return;
+        }
+
+        String[] tags = this.tags(runContext);
+        String[] modeTags = Arrays.copyOf(tags, tags.length + 2);
+        modeTags[tags.length] = "mode";
+        modeTags[tags.length + 1] = mode.name();
+        // reported from the threads fetching the splitBy ranges or the statement groups
+        TaskMetrics.metric(runContext, Counter.of("fetch.streaming", 1, modeTags));
+    }
+
     protected String[] tags(RunContext runContext) throws IllegalVariableEvaluationException {
         var fetchTypeRendered = this.renderFetchType(runContext);
         return new String[]{
@@ -100,49 +187,93 @@ public abstract class AbstractJdbcBaseQuery extends Task implements JdbcQueryInt
         return fetch(stmt, rs, Rethrow.throwConsumer(maps::add), cellConverter, connection);
     }
 
-    protected long fetchToFile(Statement stmt, ResultSet rs, BufferedWriter writer, AbstractCellConverter cellConverter, Connection connection) throws SQLException, IOException {
-        return fetch(
-            stmt,
-            rs,
-            Rethrow.throwConsumer(map -> {
-                final String s = MAPPER.writeValueAsString(map);
-                writer.write(s);
-                writer.write("\n");
-            }),
-            cellConverter,
-            connection
-        );
+    /**
+     * Fetch all the rows to a file in internal storage, using the rendered `storeFormat`, and set the output `uri` and `size`.
+     * Rows are streamed to the storage while they are fetched, without any local file.
+     * With `maxRowsPerFile` or `maxBytesPerFile`, rows are split into multiple files returned as `uris`,
+     * with `partitionBy` they are routed to the files of their partition returned as `partitions`.
+     */
+    protected long fetchToStorage(RunContext runContext, Statement stmt, ResultSet rs, AbstractCellConverter cellConverter, Connection connection, Output.OutputBuilder<?, ?> output) throws Exception {
+        StoreFormat storeFormatRendered = runContext.render(this.storeFormat).as(StoreFormat.class).orElseThrow();
+        StoreCompression storeCompressionRendered = runContext.render(this.storeCompression).as(StoreCompression.class).orElseThrow();
+        Integer storeCompressionLevelRendered = runContext.render(this.storeCompressionLevel).as(Integer.class).orElse(null);
+
+        Long maxRowsPerFileRendered = runContext.render(this.maxRowsPerFile).as(Long.class).orElse(null);
+        Long maxBytesPerFileRendered = runContext.render(this.maxBytesPerFile).as(Long.class).orElse(null);
+
+        List<String> partitionByRendered = runContext.render(this.partitionBy).asList(String.class);
+
+        RollingRowWriter.FileOpener fileOpener = () -> new StorageRowWriter(runContext, storeFormatRendered, storeCompressionRendered, storeCompressionLevelRendered);
+
+        long size;
+        if (!partitionByRendered.isEmpty()) {
+            PartitionedRowWriter partitionedRowWriter = new PartitionedRowWriter(
+                partitionByRendered,
+                runContext.render(this.maxOpenPartitions).as(Integer.class).orElseThrow(),
+                () -> new RollingRowWriter(fileOpener, maxRowsPerFileRendered, maxBytesPerFileRendered)
+            );
+
+            size = storeRows(stmt, rs, cellConverter, connection, partitionedRowWriter, partitionedRowWriter::abort);
+            output.partitions(partitionedRowWriter.partitions());
+        } else {
+            RollingRowWriter rollingRowWriter = new RollingRowWriter(fileOpener, maxRowsPerFileRendered, maxBytesPerFileRendered);
+
+            size = storeRows(stmt, rs, cellConverter, connection, rollingRowWriter, rollingRowWriter::abort);
+            if (maxRowsPerFileRendered != null || maxBytesPerFileRendered != null) {
+                output.uris(rollingRowWriter.uris());
+            } else {
+                output.uri(rollingRowWriter.uris().getFirst());
+            }
+        }
+        output.size(size);
+
+        return size;
+    }
+
+    private long storeRows(Statement stmt, ResultSet rs, AbstractCellConverter cellConverter, Connection connection, RowWriter rowWriter, Runnable abort) throws SQLException, IOException {
+        try {
+            long size = fetchRows(stmt, rs, cellConverter, (plan, current) -> rowWriter.write(plan, current, connection));
+            rowWriter.close();
+            return size;
+        } catch (Throwable e) {
+            abort.run();
+            throw e;
+        }
     }
 
     protected long fetch(Statement stmt, ResultSet rs, Consumer<Map<String, Object>> c, AbstractCellConverter cellConverter, Connection connection) throws SQLException {
+        try {
+            return fetchRows(stmt, rs, cellConverter, (plan, current) -> c.accept(plan.toRow(current, connection)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Iterate over all the rows of the statement results, the handler is called with the {@link ColumnPlan} of the
+     * {@link ResultSet} positioned on the current row.
+     */
+    protected long fetchRows(Statement stmt, ResultSet rs, AbstractCellConverter cellConverter, RowHandler handler) throws SQLException, IOException {
         boolean isResult;
         long count = 0;
 
         do {
+            ColumnPlan plan = ColumnPlan.of(rs, cellConverter);
             while (rs.next()) {
-                Map<String, Object> map = mapResultSetToMap(rs, cellConverter, connection);
-                c.accept(map);
+                handler.handle(plan, rs);
                 count++;
             }
             isResult = stmt.getMoreResults();
+            if (isResult) {
+                rs = stmt.getResultSet();
+            }
         } while (isResult);
 
         return count;
     }
 
     protected Map<String, Object> mapResultSetToMap(ResultSet rs, AbstractCellConverter cellConverter, Connection connection) throws SQLException {
-        int columnsCount = rs.getMetaData().getColumnCount();
-        Map<String, Object> map = new LinkedHashMap<>();
-
-        for (int i = 1; i <= columnsCount; i++) {
-            map.put(rs.getMetaData().getColumnLabel(i), convertCell(i, rs, cellConverter, connection));
-        }
-
-        return map;
-    }
-
-    private Object convertCell(int columnIndex, ResultSet rs, AbstractCellConverter cellConverter, Connection connection) throws SQLException {
-        return cellConverter.convertCell(columnIndex, rs, connection);
+        return ColumnPlan.of(rs, cellConverter).toRow(rs, connection);
     }
 
     public FetchType renderFetchType(RunContext runContext) throws IllegalVariableEvaluationException {
@@ -159,34 +290,43 @@ public abstract class AbstractJdbcBaseQuery extends Task implements JdbcQueryInt
     protected PreparedStatement prepareStatement(final RunContext runContext,
                                                final Connection conn,
                                                final String sql) throws SQLException, IllegalVariableEvaluationException {
+        return prepareStatement(runContext, conn, sql, List.of());
+    }
+
+    /**
+     * Prepare the statement with its named parameters, and bind the given values to the `?` placeholders
+     * that come after all the named parameters in the sql.
+     */
+    protected PreparedStatement prepareStatement(final RunContext runContext,
+                                               final Connection conn,
+                                               final String sql,
+                                               final List<Object> trailingValues) throws SQLException, IllegalVariableEvaluationException {
 
         // Inject named parameters (ex: ':param')
         Map<String, Object> namedParamsRendered = runContext.render(this.getParameters()).asMap(String.class, Object.class);
 
         if (namedParamsRendered.isEmpty()) {
-            return createPreparedStatement(conn, sql);
+            PreparedStatement stmt = createPreparedStatement(conn, sql);
+            for (int i = 0; i < trailingValues.size(); i++) {
+                stmt.setObject(i + 1, trailingValues.get(i));
+            }
+            return stmt;
         }
 
-        //Extract parameters in orders and replace them with '?'
-        String preparedSql = sql;
-        Pattern pattern = Pattern.compile(":\\w+");
-        Matcher matcher = pattern.matcher(preparedSql);
-
-        List<String> params = new LinkedList<>();
-
-        while (matcher.find()) {
-            String param = matcher.group();
-            params.add(param.substring(1));
-            preparedSql = matcher.replaceFirst("?");
-            matcher = pattern.matcher(preparedSql);
-        }
+        // Extract parameters in orders and replace them with '?'
+        ParsedStatement parsed = ParsedStatement.of(sql);
+        List<String> params = parsed.parameters();
 
-        PreparedStatement stmt = createPreparedStatement(conn, preparedSql);
+        PreparedStatement stmt = createPreparedStatement(conn, parsed.sql());
 
         for (int i = 0; i < params.size(); i++) {
             stmt.setObject(i + 1, namedParamsRendered.get(params.get(i)));
         }
 
+        for (int i = 0; i < trailingValues.size(); i++) {
+            stmt.setObject(params.size() + i + 1, trailingValues.get(i));
+        }
+
         return stmt;
     }
 
@@ -194,6 +334,21 @@ public abstract class AbstractJdbcBaseQuery extends Task implements JdbcQueryInt
         return conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
     }
 
+    @Getter
+    @AllArgsConstructor
+    public enum StoreFormat {
+        ION(".ion"),
+        ION_BINARY(".10n"),
+        ARROW(".arrows");
+
+        private final String extension;
+    }
+
+    @FunctionalInterface
+    protected interface RowHandler {
+        void handle(ColumnPlan plan, ResultSet rs) throws SQLException, IOException;
+    }
+
     @SuperBuilder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -211,11 +366,23 @@ public abstract class AbstractJdbcBaseQuery extends Task implements JdbcQueryInt
         private final List<Map<String, Object>> rows;
 
         @Schema(
-            title = "The URI of the result file on Kestra's internal storage (.ion file / Amazon Ion formatted text file).",
+            title = "The URI of the result file on Kestra's internal storage (Amazon Ion text or binary, or Apache Arrow IPC stream, depending on `storeFormat`).",
             description = "Only populated if `store` is set to true."
         )
         private final URI uri;
 
+        @Schema(
+            title = "The URIs of the result files on Kestra's internal storage, in the order of the rows.",
+            description = "Only populated if `store` is set to true, with `maxRowsPerFile` or `maxBytesPerFile`."
+        )
+        private final List<URI> uris;
+
+        @Schema(
+            title = "The URIs of the result files on Kestra's internal storage for each partition.",
+            description = "Only populated if `store` is set to true, with `partitionBy`."
+        )
+        private final Map<String, List<URI>> partitions;
+
         @Schema(
             title = "The number of rows fetched.",
             description = "Only populated if `store` or `fetch` parameter is set to true."
@@ -12,16 +12,27 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.slf4j.Logger;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
 import java.net.URI;
 import java.sql.*;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import static io.kestra.core.utils.Rethrow.throwConsumer;
 import static io.kestra.core.utils.Rethrow.throwFunction;
 
 
@@ -39,12 +50,42 @@ public abstract class AbstractJdbcBatch extends Task implements JdbcStatementInt
 
     private Property<String> timeZoneId;
 
+    @Builder.Default
+    private Property<Boolean> pooled = Property.of(false);
+
     @io.swagger.v3.oas.annotations.media.Schema(
         title = "Source file URI"
     )
     @PluginProperty(internalStorageURI = true)
     private Property<String> from;
 
+    @Schema(
+        title = "The format of the `from` file.",
+        description = "ION - Amazon Ion, text or binary, one struct or list per row, like the files created by the tasks of Kestra.\n"
+            + "JSONL - JSON Lines, one JSON object or array per row.\n"
+            + "CSV - Comma-separated values, see `csvHeader` and `csvSeparator`.\n"
+            + "The fields of a struct or JSON object, and the values of a CSV file with a header, are bound in their order in the file, "
+            + "only the ones in `columns` when it's set. "
+            + "The values of the text formats are converted to the type of their parameter, ie: a date from its ISO-8601 text."
+    )
+    @NotNull
+    @Builder.Default
+    private Property<InputFormat> format = Property.of(InputFormat.ION);
+
+    @Schema(
+        title = "Whether the first line of a CSV file holds the column names."
+    )
+    @NotNull
+    @Builder.Default
+    private Property<Boolean> csvHeader = Property.of(true);
+
+    @Schema(
+        title = "The character separating the values of a CSV file."
+    )
+    @NotNull
+    @Builder.Default
+    private Property<String> csvSeparator = Property.of(",");
+
     @NotNull
     @io.swagger.v3.oas.annotations.media.Schema(
         title = "Insert query to be executed.",
@@ -76,8 +117,43 @@ public abstract class AbstractJdbcBatch extends Task implements JdbcStatementInt
     )
     private Property<String> table;
 
+    @Schema(
+        title = "The number of connections inserting chunks at the same time.",
+        description = "Each connection inserts and commits its own chunks, so the rows of a chunk may be committed before the rows of a previous one, " +
+            "unless `ordered` is true. The task connection is one of them, and with `pooled` at most 8 connections can be used."
+    )
+    @Builder.Default
+    @NotNull
+    private Property<Integer> parallelism = Property.of(1);
+
+    @Schema(
+        title = "Whether to commit the chunks in the order of the `from` file when `parallelism` is greater than 1.",
+        description = "The chunks are still inserted at the same time, but a chunk is only committed after the previous ones. " +
+            "The database must not lock the rows of a chunk against the inserts of a previous one (ie: a unique key shared by both chunks), " +
+            "as the previous chunk would wait for a lock that is released only after it's committed."
+    )
+    @Builder.Default
+    @NotNull
+    private Property<Boolean> ordered = Property.of(false);
+
+    private static final int PIPELINED_CHUNKS = 2;
+
+    // an INSERT with only parameters in a single row of values, the one that can be repeated for several rows
+    private static final Pattern INSERT_VALUES = Pattern.compile(
+        "^\\s*(insert\\s+(?:into\\s+)?[^?]+?\\s+values)\\s*(\\(\\s*\\?\\s*(?:,\\s*\\?\\s*)*\\))\\s*;?\\s*$",
+        Pattern.CASE_INSENSITIVE | Pattern.DOTALL
+    );
+
     protected abstract AbstractCellConverter getCellConverter(ZoneId zoneId);
 
+    /**
+     * The limits of a multi-row `INSERT ... VALUES (...), (...)` statement, for the databases whose driver executes a
+     * batch with a round trip per row. Null, the default, to execute the statement as it is for each row.
+     */
+    protected MultiRowInsert multiRowInsert() {
+        return null;
+    }
+
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
         URI from = new URI(runContext.render(this.from).as(String.class).orElseThrow());
@@ -87,56 +163,196 @@ public abstract class AbstractJdbcBatch extends Task implements JdbcStatementInt
 
         AbstractCellConverter cellConverter = this.getCellConverter(this.zoneId(runContext));
 
-        List<String> columnsToUse = runContext.render(this.columns).asList(String.class);
-        if (columnsToUse.isEmpty() && this.table != null) {
-            columnsToUse = fetchColumnsFromTable(runContext, runContext.render(this.table).as(String.class).orElseThrow());
-        }
-
-        String sql;
-        if (columnsToUse != null && this.sql == null) {
-            sql = constructInsertStatement(runContext, runContext.render(this.table).as(String.class).orElse(null), columnsToUse);
-        } else {
-            sql = runContext.render(this.sql).as(String.class).orElse(null);
-        }
-
-        logger.debug("Starting prepared statement: {}", sql);
+        String database = this.metadataDatabase(runContext);
+        String table = runContext.render(this.table).as(String.class).orElse(null);
 
         try (
             Connection connection = this.connection(runContext);
-            BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(from)), FileSerde.BUFFER_SIZE);
-            PreparedStatement ps = connection.prepareStatement(sql);
+            InputStream inputStream = new BufferedInputStream(runContext.storage().getFile(from), FileSerde.BUFFER_SIZE)
         ) {
-            connection.setAutoCommit(false);
+            List<String> columnsToUse = runContext.render(this.columns).asList(String.class);
+            if (columnsToUse.isEmpty() && table != null) {
+                columnsToUse = JdbcMetadataCache.columns(database, table, () -> fetchColumnsFromTable(connection, table));
+            }
+
+            String sql;
+            if (columnsToUse != null && this.sql == null) {
+                sql = constructInsertStatement(runContext, table, columnsToUse);
+            } else {
+                sql = runContext.render(this.sql).as(String.class).orElse(null);
+            }
+
+            logger.debug("Starting prepared statement: {}", sql);
 
+            List<String> columnsToBind = runContext.render(this.columns).asList(String.class);
+            InputFormat renderedFormat = runContext.render(this.format).as(InputFormat.class).orElseThrow();
+            String renderedSeparator = runContext.render(this.csvSeparator).as(String.class).orElseThrow();
+            if (renderedSeparator.length() != 1) {
+                throw new IllegalArgumentException("`csvSeparator` must be a single character, got '" + renderedSeparator + "'");
+            }
+            boolean renderedHeader = runContext.render(this.csvHeader).as(Boolean.class).orElseThrow();
+            boolean convertText = renderedFormat != InputFormat.ION;
             int renderedChunk = runContext.render(this.chunk).as(Integer.class).orElseThrow();
+            int renderedParallelism = runContext.render(this.parallelism).as(Integer.class).orElseThrow();
+            if (renderedParallelism < 1) {
+                throw new IllegalArgumentException("`parallelism` must be greater than 0, got " + renderedParallelism);
+            }
+            boolean renderedPooled = this.getPooled() != null && runContext.render(this.getPooled()).as(Boolean.class).orElse(false);
+            if (renderedPooled && renderedParallelism > JdbcConnectionPool.MAX_SIZE) {
+                throw new IllegalArgumentException("`parallelism` can't be greater than the " + JdbcConnectionPool.MAX_SIZE + " pooled connections, got " + renderedParallelism);
+            }
 
-            final ParameterType parameterMetaData = ParameterType.of(ps.getParameterMetaData());
-            Integer updated = FileSerde.readAll(bufferedReader)
-                .doOnNext(docWriteRequest -> count.incrementAndGet())
-                .buffer(renderedChunk)
-                .map(throwFunction(buffer -> {
-                    for (Object row : buffer) {
-                        addBatch(ps, parameterMetaData, row, cellConverter, connection, runContext);
+            List<Writer> writers = new ArrayList<>();
+            try {
+                Writer first = Writer.of(connection, sql, null, null, cellConverter, convertText);
+                writers.add(first);
+                ParameterType parameterMetaData = JdbcMetadataCache.parameterType(database, sql, () -> ParameterType.of(first.ps.getParameterMetaData()));
+                MultiRow multiRow = this.multiRow(sql, parameterMetaData, renderedChunk);
+                if (multiRow != null) {
+                    logger.debug("Inserting up to {} rows by statement: {}", multiRow.rows(), multiRow.sql());
+                }
+                first.bind(parameterMetaData, multiRow);
+
+                Flux<List<Object[]>> chunks = readAll(() -> RowReader.of(renderedFormat, inputStream, columnsToBind, renderedHeader, renderedSeparator.charAt(0)))
+                    .doOnNext(docWriteRequest -> count.incrementAndGet())
+                    .buffer(renderedChunk)
+                    // the next chunks are decoded on another thread while the current one is executed,
+                    // at most PIPELINED_CHUNKS are waiting so the memory used stays bounded
+                    .subscribeOn(Schedulers.boundedElastic());
+
+                Integer updated;
+                if (renderedParallelism == 1) {
+                    updated = chunks
+                        .publishOn(Schedulers.boundedElastic(), PIPELINED_CHUNKS)
+                        .map(throwFunction(buffer -> {
+                            int updatedRows = first.execute(buffer);
+                            first.connection.commit();
+                            queryCount.incrementAndGet();
+                            return updatedRows;
+                        }))
+                        .reduce(Integer::sum).block();
+                } else {
+                    for (int i = 1; i < renderedParallelism; i++) {
+                        writers.add(Writer.of(this.connection(runContext), sql, parameterMetaData, multiRow, cellConverter, convertText));
                     }
-                    int[] updatedRows = ps.executeBatch();
-                    connection.commit();
-                    queryCount.incrementAndGet();
-                    return Arrays.stream(updatedRows).sum();
-                }))
-                .reduce(Integer::sum).block();
 
-            runContext.metric(Counter.of("records", count.get()));
-            runContext.metric(Counter.of("updated", updated == null ? 0 : updated));
-            runContext.metric(Counter.of("query", queryCount.get()));
+                    boolean renderedOrdered = runContext.render(this.ordered).as(Boolean.class).orElseThrow();
+                    updated = executeParallel(chunks, writers, renderedOrdered ? new CommitOrder() : null, queryCount);
+                }
+
+                runContext.metric(Counter.of("records", count.get()));
+                runContext.metric(Counter.of("updated", updated == null ? 0 : updated));
+                runContext.metric(Counter.of("query", queryCount.get()));
+
+                logger.info("Successfully executed {} bulk queries and updated {} rows", queryCount.get(), updated);
+
+                return Output
+                    .builder()
+                    .rowCount(count.get())
+                    .updatedCount(updated)
+                    .build();
+            } catch (Exception e) {
+                // the failure may come from a schema change, the next run must not reuse the same metadata
+                JdbcMetadataCache.invalidate(database, sql);
+                if (table != null) {
+                    JdbcMetadataCache.invalidate(database, table);
+                }
+                throw e;
+            } finally {
+                for (Writer writer : writers) {
+                    writer.close(connection);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hand the chunks to the writers, each one on its own virtual thread, as soon as a writer is free.
+     */
+    private static Integer executeParallel(Flux<List<Object[]>> chunks, List<Writer> writers, CommitOrder commitOrder, AtomicLong queryCount) {
+        BlockingQueue<Writer> free = new ArrayBlockingQueue<>(writers.size(), false, writers);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Scheduler scheduler = Schedulers.fromExecutorService(executor);
+
+            return chunks
+                .index()
+                .flatMap(
+                    chunk -> Mono.fromCallable(() -> {
+                        // at most one chunk by writer is in progress, so a writer is always free here
+                        Writer writer = free.take();
+                        try {
+                            int updatedRows = writer.execute(chunk.getT2());
+                            if (commitOrder != null) {
+                                commitOrder.await(chunk.getT1());
+                            }
+                            writer.connection.commit();
+                            queryCount.incrementAndGet();
+                            return updatedRows;
+                        } catch (Exception e) {
+                            if (commitOrder != null) {
+                                commitOrder.fail();
+                            }
+                            throw e;
+                        } finally {
+                            if (commitOrder != null) {
+                                commitOrder.done(chunk.getT1());
+                            }
+                            free.add(writer);
+                        }
+                    }).subscribeOn(scheduler),
+                    writers.size()
+                )
+                .reduce(Integer::sum)
+                .block();
+        }
+    }
+
+    /**
+     * The database the metadata is cached for, the same table may have different columns for another user.
+     */
+    private String metadataDatabase(RunContext runContext) throws Exception {
+        Properties properties = this.connectionProperties(runContext);
+        return properties.getProperty("user", "") + "@" + properties.getProperty("jdbc.url");
+    }
+
+    /**
+     * The multi-row statement inserting as many rows as the limits of the database allow, null if the database doesn't
+     * support it, if only one row fits, or if the SQL is not a plain `INSERT ... VALUES (?, ...)`.
+     */
+    private MultiRow multiRow(String sql, ParameterType parameterType, int chunk) {
+        MultiRowInsert limits = this.multiRowInsert();
+        if (limits == null || parameterType.getCount() == 0) {
+            return null;
+        }
 
-            logger.info("Successfully executed {} bulk queries and updated {} rows", queryCount.get(), updated);
+        int rows = Math.min(Math.min(limits.maxParameters() / parameterType.getCount(), limits.maxRows()), chunk);
+        if (rows < 2) {
+            return null;
+        }
 
-            return Output
-                .builder()
-                .rowCount(count.get())
-                .updatedCount(updated)
-                .build();
+        String multiRowSql = multiRowSql(sql, rows);
+        return multiRowSql == null ? null : new MultiRow(multiRowSql, rows);
+    }
+
+    /**
+     * Repeat the values of an INSERT for several rows, null if the SQL is not a plain `INSERT ... VALUES (?, ...)`.
+     */
+    static String multiRowSql(String sql, int rows) {
+        Matcher matcher = INSERT_VALUES.matcher(sql);
+        if (!matcher.matches()) {
+            return null;
         }
+
+        return matcher.group(1) + " " + String.join(", ", Collections.nCopies(rows, matcher.group(2)));
+    }
+
+    private static Flux<Object[]> readAll(Callable<RowReader> reader) {
+        return Flux.using(
+            reader,
+            rows -> Flux.fromIterable(() -> rows),
+            throwConsumer(RowReader::close)
+        );
     }
 
     private String constructInsertStatement(RunContext runContext, String table, List<String> columns) throws IllegalVariableEvaluationException {
@@ -148,49 +364,165 @@ public abstract class AbstractJdbcBatch extends Task implements JdbcStatementInt
         );
     }
 
-    private List<String> fetchColumnsFromTable(RunContext runContext, String table) throws Exception {
+    private static List<String> fetchColumnsFromTable(Connection connection, String table) throws SQLException {
         List<String> columns = new ArrayList<>();
 
-        try (Connection connection = this.connection(runContext)) {
-            DatabaseMetaData metaData = connection.getMetaData();
-            try (ResultSet resultSet = metaData.getColumns(null, null, table, null)) {
-                while (resultSet.next()) {
-                    columns.add(resultSet.getString("COLUMN_NAME"));
-                }
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet resultSet = metaData.getColumns(null, null, table, null)) {
+            while (resultSet.next()) {
+                columns.add(resultSet.getString("COLUMN_NAME"));
             }
         }
 
-        return columns;
+        return List.copyOf(columns);
     }
 
-    @SuppressWarnings("unchecked")
-    private void addBatch(
-        PreparedStatement ps,
-        ParameterType parameterMetaData,
-        Object o,
-        AbstractCellConverter cellConverter,
-        Connection connection,
-        RunContext runContext
-    ) throws Exception {
-        if (o instanceof Map) {
-            Map<String, Object> map = ((Map<String, Object>) o);
-            ListIterator<String> iterKeys = new ArrayList<>(map.keySet()).listIterator();
+    private record MultiRow(String sql, int rows) {
+    }
+
+    /**
+     * A connection with its statements, the rows of a chunk are bound and executed on it.
+     */
+    private static class Writer {
+        private final Connection connection;
+        private final PreparedStatement ps;
+        private final AbstractCellConverter cellConverter;
+        private final boolean convertText;
+        private RowBinder binder;
+        private PreparedStatement multiRowPs;
+        private RowBinder multiRowBinder;
+        private int multiRowCount;
+        private int parameterCount;
+
+        private Writer(Connection connection, PreparedStatement ps, AbstractCellConverter cellConverter, boolean convertText) {
+            this.connection = connection;
+            this.ps = ps;
+            this.cellConverter = cellConverter;
+            this.convertText = convertText;
+        }
+
+        private static Writer of(Connection connection, String sql, ParameterType parameterType, MultiRow multiRow, AbstractCellConverter cellConverter, boolean convertText) throws SQLException {
+            try {
+                connection.setAutoCommit(false);
+                Writer writer = new Writer(connection, connection.prepareStatement(sql), cellConverter, convertText);
+                if (parameterType != null) {
+                    writer.bind(parameterType, multiRow);
+                }
+                return writer;
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+        }
+
+        private void bind(ParameterType parameterType, MultiRow multiRow) throws SQLException {
+            this.binder = new RowBinder(this.cellConverter, parameterType, this.connection, this.convertText);
+
+            if (multiRow != null) {
+                this.multiRowPs = this.connection.prepareStatement(multiRow.sql());
+                this.multiRowBinder = new RowBinder(this.cellConverter, parameterType.repeat(multiRow.rows()), this.connection, this.convertText);
+                this.multiRowCount = multiRow.rows();
+                this.parameterCount = parameterType.getCount();
+            }
+        }
+
+        private int execute(List<Object[]> rows) throws Exception {
             int index = 0;
-            List<String> columnsValue = runContext.render(this.columns).asList(String.class);
-            while (iterKeys.hasNext()) {
-                String col = iterKeys.next();
-                if (columnsValue.isEmpty() || columnsValue.contains(col)) {
-                    index++;
-                    ps = cellConverter.addPreparedStatementValue(ps, parameterMetaData, map.get(col), index, connection);
+            int multiRowStatements = 0;
+
+            if (this.multiRowPs != null) {
+                for (; index + this.multiRowCount <= rows.size(); index += this.multiRowCount) {
+                    List<Object[]> group = rows.subList(index, index + this.multiRowCount);
+
+                    // a row without a value by parameter would shift the next ones, it's bound alone so the driver reports it
+                    if (group.stream().allMatch(row -> row.length == this.parameterCount)) {
+                        for (int i = 0; i < group.size(); i++) {
+                            this.multiRowBinder.bind(this.multiRowPs, group.get(i), i * this.parameterCount);
+                        }
+                        this.multiRowPs.addBatch();
+                        multiRowStatements++;
+                    } else {
+                        this.addBatch(group);
+                    }
                 }
             }
-        } else if (o instanceof Collection) {
-            ListIterator<Object> iter = ((List<Object>) o).listIterator();
-            while (iter.hasNext()) {
-                ps = cellConverter.addPreparedStatementValue(ps, parameterMetaData, iter.next(), iter.nextIndex(), connection);
+
+            // the rows left, less than a multi-row statement, are inserted one by one
+            this.addBatch(rows.subList(index, rows.size()));
+
+            int updated = multiRowStatements > 0 ? Arrays.stream(this.multiRowPs.executeBatch()).sum() : 0;
+            return updated + Arrays.stream(this.ps.executeBatch()).sum();
+        }
+
+        private void addBatch(List<Object[]> rows) throws Exception {
+            for (Object[] row : rows) {
+                this.binder.bind(this.ps, row, 0);
+                this.ps.addBatch();
+            }
+        }
+
+        /**
+         * Close the statements, and the connection unless it's the task one that is closed by the task.
+         */
+        private void close(Connection taskConnection) throws SQLException {
+            try {
+                try {
+                    this.ps.close();
+                } finally {
+                    if (this.multiRowPs != null) {
+                        this.multiRowPs.close();
+                    }
+                }
+            } finally {
+                if (this.connection != taskConnection) {
+                    this.connection.close();
+                }
             }
         }
-        ps.addBatch();
+    }
+
+    /**
+     * Let the chunks be committed only in the order they were read, a chunk waits until the previous ones are done.
+     */
+    private static class CommitOrder {
+        private long next = 0;
+        private boolean failed = false;
+
+        private synchronized void await(long index) throws InterruptedException, SQLException {
+            while (this.next != index && !this.failed) {
+                this.wait();
+            }
+            if (this.failed) {
+                throw new SQLException("A previous chunk failed, chunk " + index + " is not committed");
+            }
+        }
+
+        private synchronized void done(long index) {
+            if (this.next == index) {
+                this.next++;
+                this.notifyAll();
+            }
+        }
+
+        private synchronized void fail() {
+            this.failed = true;
+            this.notifyAll();
+        }
+    }
+
+    public enum InputFormat {
+        ION,
+        JSONL,
+        CSV
+    }
+
+    /**
+     * The limits of a multi-row INSERT of a database.
+     *
+     * @param maxParameters the most parameters of a statement
+     * @param maxRows the most rows of a `VALUES` clause
+     */
+    public record MultiRowInsert(int maxParameters, int maxRows) {
     }
 
     @Builder
@@ -220,6 +552,28 @@ public abstract class AbstractJdbcBatch extends Task implements JdbcStatementInt
             return parameterType;
         }
 
+        public int getCount() {
+            return this.types.size();
+        }
+
+        /**
+         * The parameter types of the same statement repeated for several rows, ie: for a multi-row INSERT.
+         */
+        ParameterType repeat(int rows) {
+            ParameterType repeated = new ParameterType();
+            int count = this.getCount();
+
+            for (int row = 0; row < rows; row++) {
+                for (int i = 1; i <= count; i++) {
+                    repeated.cls.put(row * count + i, this.cls.get(i));
+                    repeated.types.put(row * count + i, this.types.get(i));
+                    repeated.typesName.put(row * count + i, this.typesName.get(i));
+                }
+            }
+
+            return repeated;
+        }
+
         public Class<?> getClass(int index) {
             return this.cls.get(index);
         }
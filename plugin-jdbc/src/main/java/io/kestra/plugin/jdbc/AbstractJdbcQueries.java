@@ -1,11 +1,10 @@
 package io.kestra.plugin.jdbc;
 
-import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.utils.Rethrow;
+import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -14,9 +13,6 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import org.slf4j.Logger;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -29,7 +25,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,14 +40,33 @@ import java.util.regex.Pattern;
 @NoArgsConstructor
 public abstract class AbstractJdbcQueries extends AbstractJdbcBaseQuery implements JdbcQueriesInterface {
 
+    // a `-- @group` or `-- @end` line comment before a statement
+    private static final Pattern GROUP_MARKER = Pattern.compile(
+        "^(\\s|/\\*.*?\\*/|--(?!\\s*@(?:group|end)\\b)[^\\n]*\\n)*--\\s*@(?<marker>group|end)\\b",
+        Pattern.DOTALL
+    );
+
     @Builder.Default
     protected Property<Boolean> transaction = Property.of(Boolean.TRUE);
 
+    @NotNull
+    @Builder.Default
+    protected Property<Integer> parallelism = Property.of(1);
+
     public AbstractJdbcQueries.MultiQueryOutput run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
         AbstractCellConverter cellConverter = getCellConverter(this.zoneId(runContext));
 
         final boolean isTransactional = runContext.render(this.transaction).as(Boolean.class).orElseThrow();
+
+        int parallelismRendered = runContext.render(this.parallelism).as(Integer.class).orElseThrow();
+        if (parallelismRendered < 1) {
+            throw new IllegalArgumentException("`parallelism` must be greater than 0, got " + parallelismRendered);
+        }
+        if (parallelismRendered > 1 && !isTransactional) {
+            return this.runParallel(runContext, parallelismRendered, cellConverter);
+        }
+
         long totalSize = 0L;
         List<AbstractJdbcQuery.Output> outputList = new LinkedList<>();
 
@@ -61,19 +80,25 @@ public abstract class AbstractJdbcQueries extends AbstractJdbcBaseQuery implemen
             connection.setAutoCommit(false);
 
             String sqlRendered = runContext.render(this.sql).as(String.class, this.additionalVars).orElseThrow();
-            String[] queries = sqlRendered.split(";[^']");
 
-            for (String query : queries) {
-                //Create statement, execute
-                try (PreparedStatement stmt = prepareStatement(runContext, connection, query)) {
-                    stmt.setFetchSize(runContext.render(this.getFetchSize()).as(Integer.class).orElseThrow());
-                    logger.debug("Starting query: {}", query);
-                    stmt.execute();
+            // without a transaction, each statement is committed on its own so they can't be grouped
+            boolean pipelined = isTransactional && this.pipelineStatements();
+            try (StatementPipeline pipeline = new StatementPipeline(connection)) {
+                for (String query : new SqlScriptSplitter(sqlRendered, this.scriptDialect())) {
+                    if (pipelined && StatementPipeline.canPipeline(query, this.getParameters() != null) && pipeline.add(query)) {
+                        logger.debug("Queuing query: {}", query);
+                        continue;
+                    }
+                    pipeline.flush();
+
+                    totalSize = this.executeQuery(runContext, connection, query, cellConverter, totalSize, outputList);
                     if (!isTransactional) {
                         connection.commit();
                     }
-                    totalSize = extractResultsFromResultSet(connection, stmt, runContext, cellConverter, totalSize, outputList);
                 }
+                pipeline.flush();
+
+                runContext.metric(Counter.of("query.pipelined", pipeline.count(), this.tags(runContext)));
             }
             connection.commit();
             runContext.metric(Counter.of("fetch.size",  totalSize, this.tags(runContext)));
@@ -87,6 +112,131 @@ public abstract class AbstractJdbcQueries extends AbstractJdbcBaseQuery implemen
         }
     }
 
+    private long executeQuery(final RunContext runContext,
+                              final Connection connection,
+                              final String query,
+                              final AbstractCellConverter cellConverter,
+                              long totalSize,
+                              final List<Output> outputList) throws Exception {
+        //Create statement, execute
+        try (PreparedStatement stmt = prepareStatement(runContext, connection, query)) {
+            stmt.setFetchSize(this.renderFetchSize(runContext));
+            runContext.logger().debug("Starting query: {}", query);
+            if (stmt.execute()) {
+                this.streamingMetric(runContext);
+            }
+            // results are read before the commit, as it closes the cursor they may be fetched from
+            return extractResultsFromResultSet(connection, stmt, runContext, cellConverter, totalSize, outputList);
+        }
+    }
+
+    private AbstractJdbcQueries.MultiQueryOutput runParallel(RunContext runContext, int parallelism, AbstractCellConverter cellConverter) throws Exception {
+        if (this.getPooled() != null && runContext.render(this.getPooled()).as(Boolean.class).orElse(false) && parallelism > JdbcConnectionPool.MAX_SIZE) {
+            throw new IllegalArgumentException("`parallelism` can't be greater than the " + JdbcConnectionPool.MAX_SIZE + " pooled connections, got " + parallelism);
+        }
+
+        String sqlRendered = runContext.render(this.sql).as(String.class, this.additionalVars).orElseThrow();
+
+        List<List<String>> groups = groups(new SqlScriptSplitter(sqlRendered, this.scriptDialect()));
+
+        Semaphore permits = new Semaphore(parallelism);
+        List<Output> outputList = new ArrayList<>();
+        long totalSize = 0L;
+
+        TaskMetrics metrics = new TaskMetrics();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<Output>>> futures = groups
+                .stream()
+                .map(group -> executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return metrics.collect(() -> this.runGroup(runContext, group, cellConverter));
+                    } finally {
+                        permits.release();
+                    }
+                }))
+                .toList();
+
+            try {
+                for (Future<List<Output>> future : futures) {
+                    for (Output output : future.get()) {
+                        totalSize += output.getSize() == null ? 0L : output.getSize();
+                        outputList.add(output);
+                    }
+                }
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw new RuntimeException(e.getCause());
+            }
+        } finally {
+            // all the groups are done once the executor is closed
+            metrics.emit(runContext);
+        }
+
+        runContext.metric(Counter.of("query.groups", groups.size(), this.tags(runContext)));
+        runContext.metric(Counter.of("fetch.size",  totalSize, this.tags(runContext)));
+
+        return MultiQueryOutput.builder().outputs(outputList).build();
+    }
+
+    /**
+     * Each statement is its own group, unless a `-- @group` marker starts a group that holds the following statements,
+     * until the next `-- @group` or a `-- @end` marker, after which the statements are on their own again.
+     */
+    static List<List<String>> groups(Iterable<String> statements) {
+        List<List<String>> groups = new ArrayList<>();
+        boolean grouping = false;
+
+        for (String query : statements) {
+            Matcher matcher = GROUP_MARKER.matcher(query);
+            String marker = matcher.find() ? matcher.group("marker") : null;
+
+            if ("group".equals(marker)) {
+                grouping = true;
+                groups.add(new ArrayList<>());
+            } else {
+                if ("end".equals(marker)) {
+                    grouping = false;
+                }
+                if (!grouping) {
+                    groups.add(new ArrayList<>());
+                }
+            }
+            groups.getLast().add(query);
+        }
+
+        return groups;
+    }
+
+    private List<Output> runGroup(RunContext runContext, List<String> queries, AbstractCellConverter cellConverter) throws Exception {
+        List<Output> outputList = new ArrayList<>();
+
+        try (Connection connection = this.connection(runContext)) {
+            connection.setAutoCommit(false);
+
+            for (String query : queries) {
+                this.executeQuery(runContext, connection, query, cellConverter, 0L, outputList);
+                connection.commit();
+            }
+        }
+
+        return outputList;
+    }
+
+    /**
+     * The dialect used to split the script into statements.
+     */
+    protected SqlScriptSplitter.Dialect scriptDialect() {
+        return SqlScriptSplitter.Dialect.ANSI;
+    }
+
+    /**
+     * Whether the consecutive statements that don't return any results can be sent in one JDBC batch.
+     */
+    protected boolean pipelineStatements() {
+        return true;
+    }
+
     private static void safelyCloseConnection(final RunContext runContext, final Connection connection) {
         try {
             if (connection != null) {
@@ -102,7 +252,7 @@ public abstract class AbstractJdbcQueries extends AbstractJdbcBaseQuery implemen
                                              final RunContext runContext,
                                              final AbstractCellConverter cellConverter,
                                              long totalSize,
-                                             final List<Output> outputList) throws SQLException, IOException, IllegalVariableEvaluationException {
+                                             final List<Output> outputList) throws Exception {
         try (ResultSet rs = stmt.getResultSet()) {
             //When sql is not a select statement skip output creation
             if (rs != null) {
@@ -116,15 +266,7 @@ public abstract class AbstractJdbcQueries extends AbstractJdbcBaseQuery implemen
                             .row(fetchResult(rs, cellConverter, connection))
                             .size(size);
                     }
-                    case STORE -> {
-                        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
-                        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)) {
-                            size = fetchToFile(stmt, rs, fileWriter, cellConverter, connection);
-                        }
-                        output
-                            .uri(runContext.storage().putFile(tempFile))
-                            .size(size);
-                    }
+                    case STORE -> size = fetchToStorage(runContext, stmt, rs, cellConverter, connection, output);
                     case FETCH -> {
                         List<Map<String, Object>> maps = new ArrayList<>();
                         size = fetchResults(stmt, rs, maps, cellConverter, connection);
@@ -165,12 +307,12 @@ public abstract class AbstractJdbcQueries extends AbstractJdbcBaseQuery implemen
     }
 
     @Override
-    protected long fetch(Statement stmt, ResultSet rs, Consumer<Map<String, Object>> c, AbstractCellConverter cellConverter, Connection connection) throws SQLException {
+    protected long fetchRows(Statement stmt, ResultSet rs, AbstractCellConverter cellConverter, RowHandler handler) throws SQLException, IOException {
         long count = 0L;
+        ColumnPlan plan = ColumnPlan.of(rs, cellConverter);
 
         while (rs.next()) {
-            Map<String, Object> map = super.mapResultSetToMap(rs, cellConverter, connection);
-            c.accept(map);
+            handler.handle(plan, rs);
             count++;
         }
 
@@ -1,9 +1,12 @@
 package io.kestra.plugin.jdbc;
 
 import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.FileSerde;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,16 +14,21 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import org.slf4j.Logger;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
+import java.net.URI;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 @SuperBuilder
 @ToString
@@ -28,6 +36,28 @@ import java.util.Map;
 @Getter
 @NoArgsConstructor
 public abstract class AbstractJdbcQuery extends AbstractJdbcBaseQuery {
+    private static final Pattern TRAILING_SEMICOLON = Pattern.compile(";\\s*$");
+
+    @Schema(
+        title = "A numeric or temporal column used to split the query into ranges fetched in parallel.",
+        description = "The MIN and MAX of this column over the query results are computed first, then the values are split into `parallelism` ranges, "
+            + "each one fetched on its own connection. Only supported with `fetchType` FETCH or STORE: "
+            + "with STORE each range is written to its own files, returned in the `uris` output in the order of the ranges; "
+            + "with FETCH the rows are returned in the order of the ranges. "
+            + "The query is run as a derived table, so it should not have an `ORDER BY`: most databases ignore it, and SQL Server rejects it without `TOP`; "
+            + "only the order of the ranges on `splitBy` is kept. "
+            + "The ranges are fetched on separate connections without a shared snapshot, "
+            + "so rows changed while the ranges are fetched may be seen by some ranges and not by others."
+    )
+    protected Property<String> splitBy;
+
+    @Schema(
+        title = "The number of ranges, and of concurrent connections, used with `splitBy`.",
+        description = "With `pooled`, at most 8 connections can be used."
+    )
+    @NotNull
+    @Builder.Default
+    protected Property<Integer> parallelism = Property.of(4);
 
     public AbstractJdbcBaseQuery.Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
@@ -35,13 +65,18 @@ public abstract class AbstractJdbcQuery extends AbstractJdbcBaseQuery {
 
         String renderedSql = runContext.render(this.sql).as(String.class, this.additionalVars).orElseThrow();
 
+        String splitByRendered = runContext.render(this.splitBy).as(String.class).orElse(null);
+        if (splitByRendered != null) {
+            return this.runSplit(runContext, renderedSql, splitByRendered, cellConverter);
+        }
+
         try (
             Connection conn = this.connection(runContext);
             Statement stmt = this.getParameters() == null ? this.createStatement(conn) : this.prepareStatement(runContext, conn, renderedSql)
         ) {
 
-            conn.setAutoCommit(true);
-            stmt.setFetchSize(runContext.render(this.getFetchSize()).as(Integer.class).orElseThrow());
+            this.prepareConnection(runContext, conn, renderedSql);
+            stmt.setFetchSize(this.renderFetchSize(runContext));
 
             logger.debug("Starting query: {}", renderedSql);
 
@@ -59,6 +94,7 @@ public abstract class AbstractJdbcQuery extends AbstractJdbcBaseQuery {
             long size = 0L;
 
             if (isResult) {
+                this.streamingMetric(runContext);
                 try(ResultSet rs = stmt.getResultSet()) {
                     //Populate result fro result set
                     switch (this.renderFetchType(runContext)) {
@@ -69,15 +105,7 @@ public abstract class AbstractJdbcQuery extends AbstractJdbcBaseQuery {
                                 .row(result)
                                 .size(size);
                         }
-                        case STORE -> {
-                            File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
-                            try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)) {
-                                size = fetchToFile(stmt, rs, fileWriter, cellConverter, conn);
-                            }
-                            output
-                                .uri(runContext.storage().putFile(tempFile))
-                                .size(size);
-                        }
+                        case STORE -> size = fetchToStorage(runContext, stmt, rs, cellConverter, conn, output);
                         case FETCH -> {
                             List<Map<String, Object>> maps = new ArrayList<>();
                             size = fetchResults(stmt, rs, maps, cellConverter, conn);
@@ -88,8 +116,123 @@ public abstract class AbstractJdbcQuery extends AbstractJdbcBaseQuery {
                     }
                 }
             }
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+
             runContext.metric(Counter.of("fetch.size",  size, this.tags(runContext)));
             return output.build();
         }
     }
+
+    /**
+     * Prepare the connection before running the query, by default in auto-commit mode.
+     * A driver can open a transaction instead (ie: to fetch the results through a cursor), it's committed once the results are fetched.
+     */
+    protected void prepareConnection(RunContext runContext, Connection conn, String sql) throws Exception {
+        conn.setAutoCommit(true);
+    }
+
+    private AbstractJdbcBaseQuery.Output runSplit(RunContext runContext, String renderedSql, String splitBy, AbstractCellConverter cellConverter) throws Exception {
+        FetchType fetchType = this.renderFetchType(runContext);
+        if (fetchType != FetchType.FETCH && fetchType != FetchType.STORE) {
+            throw new IllegalArgumentException("`splitBy` is only supported with `fetchType` FETCH or STORE");
+        }
+
+        int parallelismRendered = runContext.render(this.parallelism).as(Integer.class).orElseThrow();
+        if (parallelismRendered < 1) {
+            throw new IllegalArgumentException("`parallelism` must be greater than 0, got " + parallelismRendered);
+        }
+        if (this.getPooled() != null && runContext.render(this.getPooled()).as(Boolean.class).orElse(false) && parallelismRendered > JdbcConnectionPool.MAX_SIZE) {
+            throw new IllegalArgumentException("`parallelism` can't be greater than the " + JdbcConnectionPool.MAX_SIZE + " pooled connections, got " + parallelismRendered);
+        }
+
+        // the closing parenthesis on its own line, so it's not commented out by a trailing line comment
+        String subQuery = "(" + TRAILING_SEMICOLON.matcher(renderedSql).replaceAll("") + "\n) kestra_split";
+
+        List<RangeSplit.Range> ranges;
+        try (
+            Connection conn = this.connection(runContext);
+            PreparedStatement stmt = this.prepareStatement(runContext, conn, "SELECT MIN(" + splitBy + "), MAX(" + splitBy + ") FROM " + subQuery);
+            ResultSet rs = stmt.executeQuery()
+        ) {
+            rs.next();
+            ranges = RangeSplit.ranges(splitBy, rs.getObject(1), rs.getObject(2), parallelismRendered);
+        }
+
+        runContext.logger().debug("Starting query split on '{}' in {} ranges: {}", splitBy, ranges.size(), renderedSql);
+
+        List<AbstractJdbcBaseQuery.Output> outputs = new ArrayList<>(ranges.size());
+        TaskMetrics metrics = new TaskMetrics();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<AbstractJdbcBaseQuery.Output>> futures = ranges
+                .stream()
+                .map(range -> executor.submit(() -> metrics.collect(
+                    () -> this.runRange(runContext, "SELECT * FROM " + subQuery + " WHERE " + range.predicate(), range.values(), fetchType, cellConverter)
+                )))
+                .toList();
+
+            try {
+                for (Future<AbstractJdbcBaseQuery.Output> future : futures) {
+                    outputs.add(future.get());
+                }
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        } finally {
+            // all the ranges are done once the executor is closed
+            metrics.emit(runContext);
+        }
+
+        // ranges are merged in order, so the output is sorted on `splitBy` across the ranges, the order inside a range is up to the database
+        Output.OutputBuilder<?, ?> output = AbstractJdbcBaseQuery.Output.builder();
+        long size = outputs.stream().mapToLong(AbstractJdbcBaseQuery.Output::getSize).sum();
+
+        if (fetchType == FetchType.STORE) {
+            if (outputs.getFirst().getPartitions() != null) {
+                Map<String, List<URI>> partitions = new LinkedHashMap<>();
+                outputs.forEach(rangeOutput -> rangeOutput.getPartitions().forEach((partition, uris) -> partitions.computeIfAbsent(partition, k -> new ArrayList<>()).addAll(uris)));
+                output.partitions(partitions);
+            } else {
+                output.uris(outputs.stream().flatMap(rangeOutput -> rangeOutput.getUri() != null ? Stream.of(rangeOutput.getUri()) : rangeOutput.getUris().stream()).toList());
+            }
+        } else {
+            output.rows(outputs.stream().flatMap(rangeOutput -> rangeOutput.getRows().stream()).toList());
+        }
+        output.size(size);
+
+        runContext.metric(Counter.of("split.ranges", ranges.size(), this.tags(runContext)));
+        runContext.metric(Counter.of("fetch.size", size, this.tags(runContext)));
+        return output.build();
+    }
+
+    private AbstractJdbcBaseQuery.Output runRange(RunContext runContext, String sql, List<Object> values, FetchType fetchType, AbstractCellConverter cellConverter) throws Exception {
+        try (
+            Connection conn = this.connection(runContext);
+            PreparedStatement stmt = this.prepareStatement(runContext, conn, sql, values)
+        ) {
+            this.prepareConnection(runContext, conn, sql);
+            stmt.setFetchSize(this.renderFetchSize(runContext));
+
+            Output.OutputBuilder<?, ?> output = AbstractJdbcBaseQuery.Output.builder();
+            try (ResultSet rs = stmt.executeQuery()) {
+                this.streamingMetric(runContext);
+                if (fetchType == FetchType.STORE) {
+                    fetchToStorage(runContext, stmt, rs, cellConverter, conn, output);
+                } else {
+                    List<Map<String, Object>> maps = new ArrayList<>();
+                    output
+                        .size(fetchResults(stmt, rs, maps, cellConverter, conn))
+                        .rows(maps);
+                }
+            }
+
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+
+            return output.build();
+        }
+    }
 }
@@ -34,6 +34,9 @@ public abstract class AbstractJdbcTrigger extends AbstractTrigger implements Pol
 
     private Property<String> timeZoneId;
 
+    @Builder.Default
+    private Property<Boolean> pooled = Property.of(false);
+
     private Property<String> sql;
 
     @Builder.Default
@@ -0,0 +1,311 @@
+package io.kestra.plugin.jdbc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.serializers.JacksonMapper;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Write the rows of a {@link ResultSet} as an Apache Arrow IPC stream.
+ * The schema is resolved once from the metadata of the first result set, and the converted cells are appended
+ * column by column to typed vectors, written as a record batch every {@link #BATCH_ROWS} rows.
+ */
+public class ArrowRowWriter implements RowWriter {
+    private static final ObjectMapper JSON_MAPPER = JacksonMapper.ofJson();
+
+    private static final int BATCH_ROWS = 4096;
+
+    private static final int MAX_DECIMAL_PRECISION = 38;
+
+    private final OutputStream output;
+    private final BufferAllocator allocator = new RootAllocator();
+
+    private VectorSchemaRoot root;
+    private ArrowStreamWriter writer;
+    private ColumnPlan plan;
+    private ValueAppender[] appenders;
+    private int rowCount = 0;
+
+    public ArrowRowWriter(OutputStream output) {
+        this.output = output;
+    }
+
+    @Override
+    public void write(ColumnPlan plan, ResultSet rs, Connection connection) throws SQLException, IOException {
+        if (this.root == null) {
+            this.init(plan, rs.getMetaData());
+        } else if (this.plan != plan) {
+            this.checkSameColumns(plan);
+        }
+
+        for (int i = 0; i < plan.size(); i++) {
+            Object value = plan.read(i, rs, connection);
+
+            if (value == null) {
+                setNull(this.root.getVector(i), this.rowCount);
+                continue;
+            }
+
+            try {
+                this.appenders[i].append(this.rowCount, value);
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                throw new IllegalArgumentException("Unable to write column '" + plan.label(i) + "' as Arrow: " + e.getMessage(), e);
+            }
+        }
+
+        if (++this.rowCount >= BATCH_ROWS) {
+            this.writeBatch();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (this.root == null) {
+                // no rows, still produce a valid stream
+                this.start(new Schema(List.of()));
+            }
+
+            if (this.rowCount > 0) {
+                this.writeBatch();
+            }
+
+            this.writer.end();
+            this.writer.close();
+        } finally {
+            if (this.root != null) {
+                this.root.close();
+            }
+            this.allocator.close();
+        }
+    }
+
+    private void init(ColumnPlan plan, ResultSetMetaData metaData) throws SQLException, IOException {
+        List<Field> fields = new ArrayList<>(plan.size());
+        for (int i = 0; i < plan.size(); i++) {
+            fields.add(new Field(plan.label(i), FieldType.nullable(arrowType(metaData, i + 1)), null));
+        }
+
+        this.start(new Schema(fields));
+        this.plan = plan;
+
+        this.appenders = new ValueAppender[plan.size()];
+        for (int i = 0; i < plan.size(); i++) {
+            this.appenders[i] = appender(this.root.getVector(i));
+        }
+    }
+
+    private void start(Schema schema) throws IOException {
+        this.root = VectorSchemaRoot.create(schema, this.allocator);
+        this.root.allocateNew();
+        this.writer = new ArrowStreamWriter(this.root, null, this.output);
+        this.writer.start();
+    }
+
+    private void checkSameColumns(ColumnPlan plan) {
+        boolean same = plan.size() == this.plan.size();
+        for (int i = 0; same && i < plan.size(); i++) {
+            same = plan.label(i).equals(this.plan.label(i));
+        }
+
+        if (!same) {
+            throw new IllegalArgumentException("Arrow format requires all the result sets to have the same columns");
+        }
+        this.plan = plan;
+    }
+
+    private void writeBatch() throws IOException {
+        this.root.setRowCount(this.rowCount);
+        this.writer.writeBatch();
+        this.root.allocateNew();
+        this.rowCount = 0;
+    }
+
+    private static ArrowType arrowType(ResultSetMetaData metaData, int column) throws SQLException {
+        return switch (metaData.getColumnType(column)) {
+            case Types.BIT, Types.BOOLEAN -> ArrowType.Bool.INSTANCE;
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER -> new ArrowType.Int(32, true);
+            case Types.BIGINT -> new ArrowType.Int(64, true);
+            case Types.REAL -> new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE);
+            case Types.FLOAT, Types.DOUBLE -> new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+            case Types.NUMERIC, Types.DECIMAL -> decimalType(metaData.getPrecision(column), metaData.getScale(column));
+            case Types.DATE -> new ArrowType.Date(DateUnit.DAY);
+            case Types.TIME, Types.TIME_WITH_TIMEZONE -> new ArrowType.Time(TimeUnit.MICROSECOND, 64);
+            case Types.TIMESTAMP -> new ArrowType.Timestamp(TimeUnit.MICROSECOND, null);
+            case Types.TIMESTAMP_WITH_TIMEZONE -> new ArrowType.Timestamp(TimeUnit.MICROSECOND, "UTC");
+            case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB -> ArrowType.Binary.INSTANCE;
+            default -> ArrowType.Utf8.INSTANCE;
+        };
+    }
+
+    private static ArrowType decimalType(int precision, int scale) {
+        // unbounded numeric (ie: postgres `numeric` without precision) can't be represented as an Arrow decimal
+        if (precision <= 0 || precision > MAX_DECIMAL_PRECISION || scale < 0 || scale > precision) {
+            return ArrowType.Utf8.INSTANCE;
+        }
+
+        return new ArrowType.Decimal(precision, scale, 128);
+    }
+
+    private static ValueAppender appender(FieldVector vector) {
+        return switch (vector) {
+            case BitVector v -> (index, value) -> v.setSafe(index, toBoolean(value) ? 1 : 0);
+            case IntVector v -> (index, value) -> v.setSafe(index, Math.toIntExact(toNumber(value).longValue()));
+            case BigIntVector v -> (index, value) -> v.setSafe(index, toNumber(value).longValue());
+            case Float4Vector v -> (index, value) -> v.setSafe(index, toNumber(value).floatValue());
+            case Float8Vector v -> (index, value) -> v.setSafe(index, toNumber(value).doubleValue());
+            case DecimalVector v -> (index, value) -> v.setSafe(index, toBigDecimal(value).setScale(v.getScale(), RoundingMode.HALF_UP));
+            case DateDayVector v -> (index, value) -> v.setSafe(index, Math.toIntExact(toLocalDate(value).toEpochDay()));
+            case TimeMicroVector v -> (index, value) -> v.setSafe(index, toLocalTime(value).toNanoOfDay() / 1_000);
+            // with or without timezone, both are stored as micros since epoch
+            case TimeStampVector v -> (index, value) -> v.setSafe(index, toEpochMicros(value));
+            case VarBinaryVector v -> (index, value) -> v.setSafe(index, toBytes(value));
+            case VarCharVector v -> (index, value) -> v.setSafe(index, toText(value).getBytes(StandardCharsets.UTF_8));
+            default -> throw new IllegalArgumentException("Unsupported Arrow vector " + vector.getClass().getSimpleName());
+        };
+    }
+
+    private static void setNull(FieldVector vector, int index) {
+        if (vector instanceof BaseFixedWidthVector fixedWidthVector) {
+            fixedWidthVector.setNull(index);
+        } else if (vector instanceof BaseVariableWidthVector variableWidthVector) {
+            variableWidthVector.setNull(index);
+        }
+    }
+
+    private static boolean toBoolean(Object value) {
+        return switch (value) {
+            case Boolean b -> b;
+            case Number n -> n.longValue() != 0;
+            case String s when s.equals("1") || s.equalsIgnoreCase("true") -> true;
+            case String s when s.equals("0") || s.equalsIgnoreCase("false") -> false;
+            default -> throw unsupported(value, "boolean");
+        };
+    }
+
+    private static Number toNumber(Object value) {
+        return switch (value) {
+            case Number n -> n;
+            case Boolean b -> b ? 1 : 0;
+            case String s -> new BigDecimal(s);
+            default -> throw unsupported(value, "number");
+        };
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return switch (value) {
+            case BigDecimal d -> d;
+            case BigInteger i -> new BigDecimal(i);
+            case Number n -> new BigDecimal(n.toString());
+            case String s -> new BigDecimal(s);
+            default -> throw unsupported(value, "decimal");
+        };
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return switch (value) {
+            case LocalDate d -> d;
+            case java.sql.Date d -> d.toLocalDate();
+            case LocalDateTime d -> d.toLocalDate();
+            case ZonedDateTime d -> d.toLocalDate();
+            case OffsetDateTime d -> d.toLocalDate();
+            default -> throw unsupported(value, "date");
+        };
+    }
+
+    private static LocalTime toLocalTime(Object value) {
+        return switch (value) {
+            case LocalTime t -> t;
+            case OffsetTime t -> t.toLocalTime();
+            case java.sql.Time t -> t.toLocalTime();
+            default -> throw unsupported(value, "time");
+        };
+    }
+
+    private static long toEpochMicros(Object value) {
+        Instant instant = switch (value) {
+            case Instant i -> i;
+            case ZonedDateTime d -> d.toInstant();
+            case OffsetDateTime d -> d.toInstant();
+            // local values are kept as wall clock time, as Arrow does for timestamps without timezone
+            case LocalDateTime d -> d.toInstant(ZoneOffset.UTC);
+            case java.sql.Timestamp t -> t.toLocalDateTime().toInstant(ZoneOffset.UTC);
+            case LocalDate d -> d.atStartOfDay().toInstant(ZoneOffset.UTC);
+            default -> throw unsupported(value, "timestamp");
+        };
+
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static byte[] toBytes(Object value) {
+        return switch (value) {
+            case byte[] bytes -> bytes;
+            case String s -> s.getBytes(StandardCharsets.UTF_8);
+            default -> throw unsupported(value, "binary");
+        };
+    }
+
+    private static String toText(Object value) throws IOException {
+        if (value instanceof Map<?, ?> || value instanceof Collection<?> || value.getClass().isArray()) {
+            return JSON_MAPPER.writeValueAsString(value);
+        }
+
+        return value.toString();
+    }
+
+    private static IllegalArgumentException unsupported(Object value, String type) {
+        return new IllegalArgumentException("unsupported " + value.getClass().getName() + " value for an Arrow " + type);
+    }
+
+    @FunctionalInterface
+    private interface ValueAppender {
+        void append(int index, Object value) throws IOException;
+    }
+}
@@ -0,0 +1,95 @@
+package io.kestra.plugin.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Columns of a {@link ResultSet} with their label and their converter, resolved once from the metadata
+ * so reading a row is a plain loop over the columns.
+ */
+public class ColumnPlan {
+    private final String[] labels;
+    private final AbstractCellConverter.CellReader[] readers;
+
+    // row keys are the distinct labels, a duplicated label keeps its first position and its last value
+    private final String[] keys;
+    private final int[] slots;
+    private final Map<String, Integer> index;
+
+    private ColumnPlan(String[] labels, AbstractCellConverter.CellReader[] readers) {
+        this.labels = labels;
+        this.readers = readers;
+        this.slots = new int[labels.length];
+        this.index = new HashMap<>((int) (labels.length / 0.75f) + 1);
+
+        for (int i = 0; i < labels.length; i++) {
+            Integer slot = this.index.putIfAbsent(labels[i], this.index.size());
+            this.slots[i] = slot == null ? this.index.size() - 1 : slot;
+        }
+
+        this.keys = new String[this.index.size()];
+        this.index.forEach((key, slot) -> this.keys[slot] = key);
+    }
+
+    public static ColumnPlan of(ResultSet rs, AbstractCellConverter cellConverter) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        int columnsCount = metaData.getColumnCount();
+
+        String[] labels = new String[columnsCount];
+        AbstractCellConverter.CellReader[] readers = new AbstractCellConverter.CellReader[columnsCount];
+
+        for (int i = 0; i < columnsCount; i++) {
+            labels[i] = metaData.getColumnLabel(i + 1);
+            readers[i] = cellConverter.compile(i + 1, metaData);
+        }
+
+        return new ColumnPlan(labels, readers);
+    }
+
+    public int size() {
+        return this.labels.length;
+    }
+
+    public boolean hasDuplicateLabels() {
+        return this.keys.length != this.labels.length;
+    }
+
+    public String label(int index) {
+        return this.labels[index];
+    }
+
+    /**
+     * The 0-based index of the column with the given label, or -1 if there is none.
+     * For a duplicated label, this is the last column, whose value is the one kept in a row.
+     */
+    public int columnIndex(String label) {
+        for (int i = this.labels.length - 1; i >= 0; i--) {
+            if (this.labels[i].equals(label)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Convert the cell of the current row for the column at the given 0-based index.
+     */
+    public Object read(int index, ResultSet rs, Connection connection) throws SQLException {
+        return this.readers[index].read(rs, connection);
+    }
+
+    public ResultRow toRow(ResultSet rs, Connection connection) throws SQLException {
+        Object[] values = new Object[this.keys.length];
+
+        for (int i = 0; i < this.readers.length; i++) {
+            values[this.slots[i]] = this.readers[i].read(rs, connection);
+        }
+
+        return new ResultRow(this.keys, this.index, values);
+    }
+}
@@ -0,0 +1,177 @@
+package io.kestra.plugin.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Read the rows of a CSV file (RFC 4180: values with a separator, a quote or a line break are quoted, and their quotes
+ * doubled), as the values of the statement parameters in their order.
+ * <p>
+ * With a header, the values are bound by name like the fields of an Ion struct: in the order of the file, skipping
+ * the ones that are not in the `columns`. Without a header, all the values are bound in their order.
+ * An empty value is null, unless it's quoted. The values are strings, they are converted to the parameter types when bound.
+ */
+final class CsvRowReader implements RowReader {
+    private static final int EOF = -1;
+    private static final char QUOTE = '"';
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final char separator;
+    private final char[] buffer = new char[8192];
+    private int position = 0;
+    private int limit = 0;
+
+    private final List<String> record = new ArrayList<>();
+    private final StringBuilder value = new StringBuilder();
+    // the positions of the values to bind, null to bind all of them
+    private int[] positions;
+    private boolean fetched = false;
+    private boolean hasRecord;
+
+    CsvRowReader(InputStream inputStream, List<String> columns, boolean header, char separator) throws IOException {
+        this.reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        this.separator = separator;
+
+        if (header && this.readRecord()) {
+            List<String> names = new ArrayList<>(this.record);
+            String first = names.getFirst();
+            if (first != null && !first.isEmpty() && first.charAt(0) == BOM) {
+                names.set(0, first.substring(1));
+            }
+
+            if (!columns.isEmpty()) {
+                this.positions = new int[names.size()];
+                int size = 0;
+                for (int i = 0; i < names.size(); i++) {
+                    if (columns.contains(names.get(i))) {
+                        this.positions[size++] = i;
+                    }
+                }
+                this.positions = Arrays.copyOf(this.positions, size);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.fetched) {
+            try {
+                this.hasRecord = this.readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.fetched = true;
+        }
+        return this.hasRecord;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.fetched = false;
+
+        if (this.positions == null) {
+            return this.record.toArray();
+        }
+
+        Object[] values = new Object[this.positions.length];
+        for (int i = 0; i < this.positions.length; i++) {
+            int position = this.positions[i];
+            values[i] = position < this.record.size() ? this.record.get(position) : null;
+        }
+        return values;
+    }
+
+    /**
+     * Read the values of the next record, false at the end of the file. Empty lines are skipped.
+     */
+    private boolean readRecord() throws IOException {
+        this.record.clear();
+
+        int c = this.read();
+        while (c == '\n' || c == '\r') {
+            c = this.read();
+        }
+        if (c == EOF) {
+            return false;
+        }
+
+        while (true) {
+            this.value.setLength(0);
+            boolean quoted = c == QUOTE;
+
+            if (quoted) {
+                while (true) {
+                    c = this.read();
+                    if (c == EOF) {
+                        throw new IOException("Invalid CSV file, a quoted value is not closed");
+                    }
+                    if (c == QUOTE) {
+                        c = this.read();
+                        if (c != QUOTE) {
+                            break;
+                        }
+                    }
+                    this.value.append((char) c);
+                }
+            }
+
+            // the characters after a closing quote are kept, as most CSV writers do
+            while (c != this.separator && c != '\n' && c != '\r' && c != EOF) {
+                this.value.append((char) c);
+                c = this.read();
+            }
+
+            this.record.add(!quoted && this.value.isEmpty() ? null : this.value.toString());
+
+            if (c == this.separator) {
+                c = this.read();
+                continue;
+            }
+            if (c == '\r' && this.peek() == '\n') {
+                this.read();
+            }
+            return true;
+        }
+    }
+
+    private int read() throws IOException {
+        if (this.position == this.limit && !this.fill()) {
+            return EOF;
+        }
+        return this.buffer[this.position++];
+    }
+
+    private int peek() throws IOException {
+        if (this.position == this.limit && !this.fill()) {
+            return EOF;
+        }
+        return this.buffer[this.position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = this.reader.read(this.buffer);
+        if (read <= 0) {
+            return false;
+        }
+        this.position = 0;
+        this.limit = read;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+}
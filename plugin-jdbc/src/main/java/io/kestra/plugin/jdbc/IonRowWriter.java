@@ -0,0 +1,83 @@
+package io.kestra.plugin.jdbc;
+
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import com.fasterxml.jackson.dataformat.ion.IonGenerator;
+import com.fasterxml.jackson.dataformat.ion.IonObjectMapper;
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Write the rows of a {@link ResultSet} as Ion, one top-level struct per row (per line for the text format).
+ * Each converted cell goes straight to the Ion writer, without an intermediate {@link java.util.Map} or {@link String}.
+ */
+public class IonRowWriter implements RowWriter {
+    private static final IonObjectMapper MAPPER = (IonObjectMapper) JacksonMapper.ofIon();
+
+    private static final IonTextWriterBuilder TEXT_WRITER_BUILDER = IonTextWriterBuilder.standard()
+        .withWriteTopLevelValuesOnNewLines(true)
+        .immutable();
+
+    // the local symbol table is appended on flush, so field names are only declared once for the whole file
+    private static final IonBinaryWriterBuilder BINARY_WRITER_BUILDER = IonBinaryWriterBuilder.standard()
+        .withLocalSymbolTableAppendEnabled()
+        .immutable();
+
+    // the binary writer buffers the values until a flush, as it needs to write the symbol table first
+    private static final int BINARY_FLUSH_ROWS = 1000;
+
+    private final IonGenerator generator;
+    private final int flushRows;
+    private int pendingRows = 0;
+
+    public IonRowWriter(OutputStream output, boolean binary) {
+        this(binary ? BINARY_WRITER_BUILDER.build(output) : TEXT_WRITER_BUILDER.build(output), binary ? BINARY_FLUSH_ROWS : 0);
+    }
+
+    private IonRowWriter(IonWriter ionWriter, int flushRows) {
+        this.generator = MAPPER.getFactory().createGenerator(ionWriter);
+        this.flushRows = flushRows;
+    }
+
+    @Override
+    public void write(ColumnPlan plan, ResultSet rs, Connection connection) throws SQLException, IOException {
+        if (plan.hasDuplicateLabels()) {
+            // keep the same output as the map representation, where the last duplicated column wins
+            this.generator.writeObject(plan.toRow(rs, connection));
+        } else {
+            this.generator.writeStartObject();
+            for (int i = 0; i < plan.size(); i++) {
+                this.generator.writeFieldName(plan.label(i));
+                this.writeValue(plan.read(i, rs, connection));
+            }
+            this.generator.writeEndObject();
+        }
+
+        if (this.flushRows > 0 && ++this.pendingRows >= this.flushRows) {
+            this.generator.flush();
+            this.pendingRows = 0;
+        }
+    }
+
+    private void writeValue(Object value) throws IOException {
+        switch (value) {
+            case null -> this.generator.writeNull();
+            case String s -> this.generator.writeString(s);
+            case Integer i -> this.generator.writeNumber(i);
+            case Long l -> this.generator.writeNumber(l);
+            case Boolean b -> this.generator.writeBoolean(b);
+            default -> this.generator.writeObject(value);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.generator.close();
+    }
+}
@@ -0,0 +1,149 @@
+package io.kestra.plugin.jdbc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.ion.IonParser;
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read the rows of an Ion file, text or binary, or of a JSON Lines file, as the values of the statement parameters in their order.
+ * <p>
+ * The fields of a struct row are bound in the order of the row, skipping the ones that are not in the `columns`,
+ * and the values of a list row in their order, so a row is read without building a map of its fields.
+ * Plain strings, integers and booleans are read directly from the parser, the other values (ie: decimals, timestamps,
+ * nested lists and annotated values like dates) are deserialized by the mapper, the same way as for a whole row.
+ */
+final class JacksonRowReader implements RowReader {
+    static final ObjectMapper ION_MAPPER = JacksonMapper.ofIon();
+    static final ObjectMapper JSON_MAPPER = JacksonMapper.ofJson();
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final JsonParser parser;
+    private final ObjectReader valueReader;
+    // the fields to bind, empty to bind all of them
+    private final Set<String> columns;
+    private final boolean plainIntegers;
+
+    private Object[] values = new Object[16];
+    private boolean fetched = false;
+    private JsonToken next;
+
+    JacksonRowReader(ObjectMapper mapper, InputStream inputStream, List<String> columns) throws IOException {
+        this.parser = mapper.getFactory().createParser(inputStream);
+        this.valueReader = mapper.readerFor(Object.class);
+        this.columns = new HashSet<>(columns);
+        this.plainIntegers = !mapper.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)
+            && !mapper.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.fetched) {
+            try {
+                this.next = this.parser.nextToken();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.fetched = true;
+        }
+        return this.next != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.fetched = false;
+
+        try {
+            return switch (this.next) {
+                case START_OBJECT -> this.readStruct();
+                case START_ARRAY -> this.readList();
+                default -> {
+                    // a row that is neither a struct nor a list has no parameters
+                    this.parser.skipChildren();
+                    yield EMPTY;
+                }
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Object[] readStruct() throws IOException {
+        int size = 0;
+
+        while (this.parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = this.parser.currentName();
+            this.parser.nextToken();
+
+            if (this.columns.isEmpty() || this.columns.contains(name)) {
+                size = this.add(size, this.readValue());
+            } else {
+                this.parser.skipChildren();
+            }
+        }
+
+        return Arrays.copyOf(this.values, size);
+    }
+
+    private Object[] readList() throws IOException {
+        int size = 0;
+
+        while (this.parser.nextToken() != JsonToken.END_ARRAY) {
+            size = this.add(size, this.readValue());
+        }
+
+        return Arrays.copyOf(this.values, size);
+    }
+
+    private int add(int size, Object value) {
+        if (size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, size * 2);
+        }
+        this.values[size] = value;
+        return size + 1;
+    }
+
+    private Object readValue() throws IOException {
+        JsonToken token = this.parser.currentToken();
+
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+
+        boolean annotated = this.parser instanceof IonParser ionParser && ionParser.getTypeAnnotations().length > 0;
+        if (!annotated) {
+            if (token == JsonToken.VALUE_STRING) {
+                return this.parser.getText();
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT && this.plainIntegers) {
+                return this.parser.getNumberValue();
+            }
+        }
+
+        return this.valueReader.readValue(this.parser);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.parser.close();
+    }
+}
@@ -34,6 +34,17 @@ public interface JdbcConnectionInterface {
     )
     Property<String> getPassword();
 
+    @Schema(
+        title = "Whether to borrow the connection from a pool shared by all the task runs of the worker.",
+        description = "Connections are pooled by URL, credentials and connection properties, so task runs and trigger polls don't repeat the TCP, TLS and authentication handshakes. "
+            + "A pool holds up to 8 connections, validated when borrowed, and closes in the background the ones idle for 10 minutes. "
+            + "The transaction and connection settings are reset when a connection goes back to the pool, but other session state "
+            + "(ie: variables set by a `SET` statement, temporary tables) is kept for the next task run."
+    )
+    default Property<Boolean> getPooled() {
+        return null;
+    }
+
     /**
      * JDBC driver may be auto-registered. See <a href="https://docs.oracle.com/javase/8/docs/api/java/sql/DriverManager.html">DriverManager</a>
      *
@@ -94,6 +105,10 @@ public interface JdbcConnectionInterface {
         String jdbcUrl = props.getProperty("jdbc.url");
         props.remove("jdbc.url");
 
+        if (this.getPooled() != null && runContext.render(this.getPooled()).as(Boolean.class).orElse(false)) {
+            return JdbcConnectionPool.borrow(runContext, jdbcUrl, props);
+        }
+
         return DriverManager.getConnection(jdbcUrl, props);
     }
 
@@ -0,0 +1,405 @@
+package io.kestra.plugin.jdbc;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.runners.RunContext;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connections shared by all the task runs of a worker, one pool by JDBC URL and connection properties (including the credentials).
+ * <p>
+ * A borrowed connection goes back to the pool when it's closed: the pending transaction is rolled back, and the
+ * auto-commit, read-only, isolation, catalog and schema settings are restored. Other session state
+ * (ie: variables set by a `SET` statement, temporary tables) is kept, that's why pooling is opt-in.
+ * <p>
+ * The idle connections are closed in the background, and a pool without any connection left is removed.
+ * <p>
+ * The prepared statements are kept open with the connection, see {@link StatementCache}.
+ */
+public final class JdbcConnectionPool {
+    // maximum number of connections open at the same time for a pool, borrowing waits for one to be released
+    static final int MAX_SIZE = 8;
+    static final Duration MAX_WAIT = Duration.ofSeconds(30);
+    static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+    // connections are renewed from time to time, ie: to follow a DNS change or a credentials rotation on the server
+    static final Duration MAX_LIFETIME = Duration.ofMinutes(30);
+    static final Duration EVICTION_INTERVAL = Duration.ofMinutes(1);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private static final Map<Key, Pool> POOLS = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService EVICTION = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("jdbc-pool-eviction").daemon().factory()
+    );
+
+    static {
+        EVICTION.scheduleWithFixedDelay(
+            () -> evictIdle(Instant.now()),
+            EVICTION_INTERVAL.toMillis(),
+            EVICTION_INTERVAL.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    private JdbcConnectionPool() {
+    }
+
+    /**
+     * Borrow a connection, validated if it was already open, or open a new one if there is no idle connection.
+     */
+    public static Connection borrow(RunContext runContext, String url, Properties properties) throws SQLException {
+        Key key = Key.of(url, properties);
+        String[] tags = {"url", redact(url)};
+
+        Pool pool;
+        // a pool removed by the eviction in the meantime can't be entered, a new one is created
+        do {
+            pool = POOLS.computeIfAbsent(key, k -> new Pool(url, properties));
+        } while (!pool.enter());
+
+        Instant start = Instant.now();
+        Connection connection;
+        try {
+            connection = pool.borrow(runContext, tags);
+        } catch (SQLException | RuntimeException e) {
+            pool.exit();
+            throw e;
+        }
+
+        // a connection may be borrowed and closed from the threads fetching the splitBy ranges or the statement groups
+        TaskMetrics.metric(runContext, Timer.of("pool.wait", Duration.between(start, Instant.now()), tags));
+
+        return connection;
+    }
+
+    /**
+     * Close the idle connections that were not used since {@link #IDLE_TIMEOUT} or that are older than {@link #MAX_LIFETIME},
+     * and remove the pools left without any connection.
+     */
+    static void evictIdle(Instant now) {
+        POOLS.forEach((key, pool) -> {
+            try {
+                pool.evict(now);
+                if (pool.retire()) {
+                    POOLS.remove(key, pool);
+                }
+            } catch (RuntimeException e) {
+                // the next pools must still be evicted, and the scheduled eviction must not stop
+            }
+        });
+    }
+
+    static boolean hasPool(String url, Properties properties) {
+        return POOLS.containsKey(Key.of(url, properties));
+    }
+
+    private static String redact(String url) {
+        // the query string may contain credentials
+        int query = url.indexOf('?');
+        return query < 0 ? url : url.substring(0, query);
+    }
+
+    private record Key(String url, Map<String, String> properties) {
+        static Key of(String url, Properties properties) {
+            Map<String, String> values = new TreeMap<>();
+            properties.stringPropertyNames().forEach(name -> values.put(name, properties.getProperty(name)));
+            return new Key(url, values);
+        }
+    }
+
+    private static final class Pool {
+        private final String url;
+        private final Properties properties;
+        private final Semaphore permits = new Semaphore(MAX_SIZE, true);
+        private final Deque<PooledConnection> idle = new ArrayDeque<>();
+        // the borrowers waiting for a connection or holding one, a retired pool can't be entered anymore
+        private int users = 0;
+        private boolean retired = false;
+
+        private Pool(String url, Properties properties) {
+            this.url = url;
+            this.properties = (Properties) properties.clone();
+        }
+
+        private synchronized boolean enter() {
+            if (this.retired) {
+                return false;
+            }
+            this.users++;
+            return true;
+        }
+
+        private synchronized void exit() {
+            this.users--;
+        }
+
+        /**
+         * Retire the pool if it has no connection left, nor a borrower waiting for one.
+         */
+        private synchronized boolean retire() {
+            if (this.users == 0 && this.idleCount() == 0) {
+                this.retired = true;
+            }
+            return this.retired;
+        }
+
+        private Connection borrow(RunContext runContext, String[] tags) throws SQLException {
+            try {
+                if (!this.permits.tryAcquire(MAX_WAIT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new SQLTimeoutException("Timeout after " + MAX_WAIT + " waiting for a pooled connection, " + MAX_SIZE + " are already in use");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a pooled connection", e);
+            }
+
+            try {
+                PooledConnection pooled;
+                while ((pooled = this.pollIdle()) != null) {
+                    if (pooled.isValid()) {
+                        TaskMetrics.metric(runContext, Counter.of("pool.reused", 1, tags));
+                        return pooled.lend(runContext);
+                    }
+                    pooled.closePhysical();
+                }
+
+                pooled = new PooledConnection(this, DriverManager.getConnection(this.url, this.properties));
+                TaskMetrics.metric(runContext, Counter.of("pool.created", 1, tags));
+                return pooled.lend(runContext);
+            } catch (SQLException | RuntimeException e) {
+                this.permits.release();
+                throw e;
+            }
+        }
+
+        private void release(PooledConnection pooled, boolean reusable) {
+            if (reusable) {
+                synchronized (this.idle) {
+                    this.idle.push(pooled);
+                }
+            } else {
+                pooled.closePhysical();
+            }
+
+            this.permits.release();
+            this.exit();
+        }
+
+        private PooledConnection pollIdle() {
+            synchronized (this.idle) {
+                return this.idle.poll();
+            }
+        }
+
+        private int idleCount() {
+            synchronized (this.idle) {
+                return this.idle.size();
+            }
+        }
+
+        private void evict(Instant now) {
+            synchronized (this.idle) {
+                Iterator<PooledConnection> iterator = this.idle.iterator();
+                while (iterator.hasNext()) {
+                    PooledConnection pooled = iterator.next();
+                    if (pooled.expired(now)) {
+                        iterator.remove();
+                        pooled.closePhysical();
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class PooledConnection {
+        private final Pool pool;
+        private final Connection physical;
+        private final StatementCache statements = new StatementCache();
+        private final Instant created = Instant.now();
+        private Instant lastUsed = this.created;
+
+        // the settings to restore when the connection goes back to the pool
+        private final boolean autoCommit;
+        private final boolean readOnly;
+        private final int transactionIsolation;
+        private final String catalog;
+        private final String schema;
+
+        private PooledConnection(Pool pool, Connection physical) throws SQLException {
+            this.pool = pool;
+            this.physical = physical;
+            this.autoCommit = physical.getAutoCommit();
+            this.readOnly = physical.isReadOnly();
+            this.transactionIsolation = physical.getTransactionIsolation();
+            this.catalog = physical.getCatalog();
+            this.schema = schemaOf(physical);
+        }
+
+        private Connection lend(RunContext runContext) {
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new Handler(runContext, this)
+            );
+        }
+
+        private boolean isValid() {
+            try {
+                return this.physical.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private boolean expired(Instant now) {
+            return this.lastUsed.plus(IDLE_TIMEOUT).isBefore(now) || this.created.plus(MAX_LIFETIME).isBefore(now);
+        }
+
+        /**
+         * Restore the connection settings, false if the connection can't be reused.
+         */
+        private boolean reset() {
+            try {
+                if (this.physical.isClosed()) {
+                    return false;
+                }
+                if (!this.physical.getAutoCommit()) {
+                    this.physical.rollback();
+                }
+                if (this.physical.getAutoCommit() != this.autoCommit) {
+                    this.physical.setAutoCommit(this.autoCommit);
+                }
+                if (this.physical.isReadOnly() != this.readOnly) {
+                    this.physical.setReadOnly(this.readOnly);
+                }
+                if (this.physical.getTransactionIsolation() != this.transactionIsolation) {
+                    this.physical.setTransactionIsolation(this.transactionIsolation);
+                }
+                if (this.catalog != null && !this.catalog.equals(this.physical.getCatalog())) {
+                    this.physical.setCatalog(this.catalog);
+                }
+                if (this.schema != null && !this.schema.equals(schemaOf(this.physical))) {
+                    this.physical.setSchema(this.schema);
+                }
+                this.physical.clearWarnings();
+                this.lastUsed = Instant.now();
+
+                return true;
+            } catch (SQLException | RuntimeException e) {
+                return false;
+            }
+        }
+
+        private void closePhysical() {
+            this.statements.closeAll();
+            try {
+                this.physical.close();
+            } catch (SQLException ignored) {
+                // the connection is discarded anyway
+            }
+        }
+
+        private static String schemaOf(Connection connection) {
+            try {
+                return connection.getSchema();
+            } catch (SQLException | AbstractMethodError | UnsupportedOperationException e) {
+                // not supported by some drivers
+                return null;
+            }
+        }
+    }
+
+    /**
+     * The connection lent to a task: closing it gives the physical connection back to the pool, and it can't be used afterward.
+     */
+    private static final class Handler implements InvocationHandler {
+        private final RunContext runContext;
+        private final PooledConnection pooled;
+        private final long statementHits;
+        private boolean closed = false;
+
+        private Handler(RunContext runContext, PooledConnection pooled) {
+            this.runContext = runContext;
+            this.pooled = pooled;
+            this.statementHits = pooled.statements.hits();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!this.closed) {
+                        this.closed = true;
+                        TaskMetrics.metric(this.runContext, Counter.of(
+                            "pool.statements.reused",
+                            this.pooled.statements.hits() - this.statementHits,
+                            "url", redact(this.pooled.pool.url)
+                        ));
+                        this.pooled.pool.release(this.pooled, this.pooled.reset());
+                    }
+                    return null;
+                }
+                case "prepareStatement" -> {
+                    if (this.closed) {
+                        throw new SQLException("The connection is closed");
+                    }
+                    // statements with generated keys or holdability are not cached
+                    if (args.length == 1 || args.length == 3) {
+                        return this.pooled.statements.prepare(
+                            this.pooled.physical,
+                            (Connection) proxy,
+                            (String) args[0],
+                            args.length == 1 ? ResultSet.TYPE_FORWARD_ONLY : (int) args[1],
+                            args.length == 1 ? ResultSet.CONCUR_READ_ONLY : (int) args[2]
+                        );
+                    }
+                }
+                case "isClosed" -> {
+                    return this.closed || this.pooled.physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Pooled" + this.pooled.physical;
+                }
+                default -> {
+                    if (this.closed) {
+                        throw new SQLException("The connection is closed");
+                    }
+                }
+            }
+
+            try {
+                return method.invoke(this.pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
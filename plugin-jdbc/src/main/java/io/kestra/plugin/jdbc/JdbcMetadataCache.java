@@ -0,0 +1,100 @@
+package io.kestra.plugin.jdbc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Table columns and statement parameter types, shared by all the task runs of a worker so frequent loads into the
+ * same tables don't fetch the same metadata from the database each time.
+ * <p>
+ * Entries are keyed by the database (the JDBC URL and user) and the table or SQL, and expire after {@link #TTL}
+ * so a schema change is eventually seen. A task that knows the schema changed can {@link #invalidate(String)} it.
+ */
+public final class JdbcMetadataCache {
+    static final int MAX_SIZE = 1024;
+    static final Duration TTL = Duration.ofMinutes(5);
+
+    private static final Map<Key, Entry> CACHE = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return this.size() > MAX_SIZE;
+        }
+    });
+
+    private JdbcMetadataCache() {
+    }
+
+    /**
+     * The columns of a table, loaded from the database if they are not cached.
+     */
+    public static List<String> columns(String database, String table, Callable<List<String>> loader) throws Exception {
+        List<String> columns = get(new Key(Kind.COLUMNS, database, table), loader);
+        // a table without columns is most likely a wrong name, or a table that is not created yet
+        if (columns.isEmpty()) {
+            invalidate(database, table);
+        }
+        return columns;
+    }
+
+    /**
+     * The parameter types of a statement, loaded from the database if they are not cached.
+     */
+    public static AbstractJdbcBatch.ParameterType parameterType(String database, String sql, Callable<AbstractJdbcBatch.ParameterType> loader) throws Exception {
+        return get(new Key(Kind.PARAMETERS, database, sql), loader);
+    }
+
+    /**
+     * Remove the cached metadata of a table or statement.
+     */
+    public static void invalidate(String database, String tableOrSql) {
+        for (Kind kind : Kind.values()) {
+            CACHE.remove(new Key(kind, database, tableOrSql));
+        }
+    }
+
+    /**
+     * Remove all the cached metadata of a database.
+     */
+    public static void invalidate(String database) {
+        synchronized (CACHE) {
+            CACHE.keySet().removeIf(key -> key.database().equals(database));
+        }
+    }
+
+    public static void invalidateAll() {
+        CACHE.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T get(Key key, Callable<T> loader) throws Exception {
+        Instant now = Instant.now();
+
+        Entry cached = CACHE.get(key);
+        if (cached != null && cached.expiration().isAfter(now)) {
+            return (T) cached.value();
+        }
+
+        // loaded outside the lock, two runs may load the same metadata at the same time but won't wait for each other
+        T value = Objects.requireNonNull(loader.call());
+        CACHE.put(key, new Entry(value, now.plus(TTL)));
+
+        return value;
+    }
+
+    private enum Kind {
+        COLUMNS,
+        PARAMETERS
+    }
+
+    private record Key(Kind kind, String database, String name) {
+    }
+
+    private record Entry(Object value, Instant expiration) {
+    }
+}
@@ -11,4 +11,15 @@ public interface JdbcQueriesInterface {
         description = "If one query failed, rollback transactions."
     )
     Property<Boolean> getTransaction();
+
+    @Schema(
+        title = "The number of statements, or groups of statements, run concurrently when `transaction` is false.",
+        description = "Each statement runs on its own connection, a line comment `-- @group` before a statement starts a group: "
+            + "the following statements run one after another on the same connection, until the next `-- @group`, "
+            + "or a `-- @end` line comment before a statement that runs on its own again, like the ones after it. "
+            + "The outputs are returned in the order of the statements. "
+            + "As connections are not shared, a statement that changes the session (ie: `SET`, temporary tables) only applies to its own group. "
+            + "With `pooled`, at most 8 connections can be used."
+    )
+    Property<Integer> getParallelism();
 }
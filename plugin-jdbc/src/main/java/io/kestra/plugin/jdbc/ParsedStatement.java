@@ -0,0 +1,191 @@
+package io.kestra.plugin.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A SQL statement with its named parameters (ex: `:param`) replaced by `?` placeholders.
+ * <p>
+ * The statement is tokenized in a single pass: parameters are not searched in string literals, quoted identifiers,
+ * Postgres dollar-quoted strings, comments, nor in `::` casts. A parameter can be used several times,
+ * each occurrence being its own placeholder.
+ */
+public final class ParsedStatement {
+    private static final int CACHE_SIZE = 256;
+
+    // don't keep huge generated statements in memory, they are unlikely to be run twice anyway
+    private static final int MAX_CACHED_LENGTH = 64 * 1024;
+
+    private static final Map<String, ParsedStatement> CACHE = Collections.synchronizedMap(new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ParsedStatement> eldest) {
+            return this.size() > CACHE_SIZE;
+        }
+    });
+
+    private final String sql;
+    private final List<String> parameters;
+
+    private ParsedStatement(String sql, List<String> parameters) {
+        this.sql = sql;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Parse the statement, or get it from the cache if the same SQL was already parsed.
+     */
+    public static ParsedStatement of(String sql) {
+        if (sql.length() > MAX_CACHED_LENGTH) {
+            return parse(sql);
+        }
+
+        ParsedStatement cached = CACHE.get(sql);
+        if (cached == null) {
+            cached = parse(sql);
+            CACHE.put(sql, cached);
+        }
+
+        return cached;
+    }
+
+    /**
+     * The SQL with `?` placeholders in place of the named parameters.
+     */
+    public String sql() {
+        return this.sql;
+    }
+
+    /**
+     * The parameter name of each placeholder, the placeholder at index `i` being the JDBC parameter `i + 1`.
+     */
+    public List<String> parameters() {
+        return this.parameters;
+    }
+
+    static ParsedStatement parse(String sql) {
+        int length = sql.length();
+        StringBuilder parsed = null;
+        List<String> parameters = new ArrayList<>();
+        int copied = 0;
+        int i = 0;
+
+        while (i < length) {
+            char c = sql.charAt(i);
+
+            switch (c) {
+                case '\'' -> i = skipQuoted(sql, i, '\'', i > 0 && (sql.charAt(i - 1) == 'E' || sql.charAt(i - 1) == 'e'));
+                case '"', '`' -> i = skipQuoted(sql, i, c, false);
+                case '-' -> i = i + 1 < length && sql.charAt(i + 1) == '-' ? skipLineComment(sql, i) : i + 1;
+                case '/' -> i = i + 1 < length && sql.charAt(i + 1) == '*' ? skipBlockComment(sql, i) : i + 1;
+                case '$' -> i = skipDollarQuoted(sql, i);
+                case ':' -> {
+                    if (i + 1 < length && sql.charAt(i + 1) == ':') {
+                        // a cast, ie: `value::text`
+                        i += 2;
+                    } else {
+                        int end = i + 1;
+                        while (end < length && isWordChar(sql.charAt(end))) {
+                            end++;
+                        }
+
+                        if (end > i + 1) {
+                            if (parsed == null) {
+                                parsed = new StringBuilder(length);
+                            }
+                            parsed.append(sql, copied, i).append('?');
+                            parameters.add(sql.substring(i + 1, end));
+                            copied = end;
+                        }
+                        i = end;
+                    }
+                }
+                default -> i++;
+            }
+        }
+
+        if (parsed == null) {
+            return new ParsedStatement(sql, List.of());
+        }
+
+        parsed.append(sql, copied, length);
+        return new ParsedStatement(parsed.toString(), List.copyOf(parameters));
+    }
+
+    private static int skipQuoted(String sql, int start, char quote, boolean backslashEscapes) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (backslashEscapes && c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                // a doubled quote is an escaped quote
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+
+        return sql.length();
+    }
+
+    private static int skipLineComment(String sql, int start) {
+        int end = sql.indexOf('\n', start);
+        return end < 0 ? sql.length() : end + 1;
+    }
+
+    private static int skipBlockComment(String sql, int start) {
+        // Postgres block comments can be nested
+        int depth = 0;
+        int i = start;
+        while (i < sql.length()) {
+            if (sql.startsWith("/*", i)) {
+                depth++;
+                i += 2;
+            } else if (sql.startsWith("*/", i)) {
+                depth--;
+                i += 2;
+                if (depth == 0) {
+                    return i;
+                }
+            } else {
+                i++;
+            }
+        }
+
+        return sql.length();
+    }
+
+    private static int skipDollarQuoted(String sql, int start) {
+        // `$` inside an identifier, or a positional parameter like `$1`, is not a dollar quote
+        if (start > 0 && isWordChar(sql.charAt(start - 1))) {
+            return start + 1;
+        }
+
+        int tagEnd = start + 1;
+        while (tagEnd < sql.length() && sql.charAt(tagEnd) != '$') {
+            char c = sql.charAt(tagEnd);
+            if (!(Character.isLetter(c) || c == '_' || (tagEnd > start + 1 && Character.isDigit(c)))) {
+                return start + 1;
+            }
+            tagEnd++;
+        }
+        if (tagEnd >= sql.length()) {
+            return start + 1;
+        }
+
+        String tag = sql.substring(start, tagEnd + 1);
+        int end = sql.indexOf(tag, tagEnd + 1);
+        return end < 0 ? sql.length() : end + tag.length();
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,164 @@
+package io.kestra.plugin.jdbc;
+
+import java.io.IOException;
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Route each row to the files of its partition, identified Hive-style by the values of the partition columns
+ * (ie: `date=2024-01-01/tenant=acme`). Like Hive, the characters that would change how the key is read (ie: `/`, `=`)
+ * are escaped as `%XX`, so `date=2024%2F01%2F01` is a single partition.
+ * At most `maxOpenPartitions` partitions have an open file, the least recently used one is closed when a new partition
+ * comes up, so a partition seen again later gets a new file. Rows sorted by the partition columns lead to a single file per partition.
+ */
+public class PartitionedRowWriter implements RowWriter {
+    static final String NULL_PARTITION = "__HIVE_DEFAULT_PARTITION__";
+
+    // the characters escaped by Hive in a partition path, in addition to the control characters
+    private static final String ESCAPED_CHARS = "\"#%'*/:=?\\{[]^";
+
+    private final List<String> partitionBy;
+    private final int maxOpenPartitions;
+    private final WriterOpener opener;
+
+    // access ordered, the eldest entry is the least recently used partition
+    private final LinkedHashMap<String, RollingRowWriter> open = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, List<URI>> partitions = new LinkedHashMap<>();
+
+    private ColumnPlan plan;
+    private int[] columns;
+
+    public PartitionedRowWriter(List<String> partitionBy, int maxOpenPartitions, WriterOpener opener) {
+        if (maxOpenPartitions <= 0) {
+            throw new IllegalArgumentException("maxOpenPartitions must be greater than 0, got " + maxOpenPartitions);
+        }
+
+        this.partitionBy = partitionBy;
+        this.maxOpenPartitions = maxOpenPartitions;
+        this.opener = opener;
+    }
+
+    @Override
+    public void write(ColumnPlan plan, ResultSet rs, Connection connection) throws SQLException, IOException {
+        if (this.plan != plan) {
+            this.resolveColumns(plan);
+        }
+
+        String partition = this.partition(plan, rs, connection);
+
+        RollingRowWriter writer = this.open.get(partition);
+        if (writer == null) {
+            if (this.open.size() >= this.maxOpenPartitions) {
+                this.evictEldest();
+            }
+
+            writer = this.opener.open();
+            this.open.put(partition, writer);
+            this.partitions.computeIfAbsent(partition, k -> new ArrayList<>());
+        }
+
+        writer.write(plan, rs, connection);
+    }
+
+    /**
+     * The files of each partition, in the order the partitions were first seen.
+     */
+    public Map<String, List<URI>> partitions() {
+        return this.partitions;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Iterator<Map.Entry<String, RollingRowWriter>> iterator = this.open.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, RollingRowWriter> entry = iterator.next();
+            iterator.remove();
+            this.close(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public void abort() {
+        this.open.values().forEach(RollingRowWriter::abort);
+        this.open.clear();
+    }
+
+    private void resolveColumns(ColumnPlan plan) {
+        this.columns = new int[this.partitionBy.size()];
+
+        for (int i = 0; i < this.columns.length; i++) {
+            this.columns[i] = plan.columnIndex(this.partitionBy.get(i));
+            if (this.columns[i] < 0) {
+                throw new IllegalArgumentException("Invalid partitionBy, the column '" + this.partitionBy.get(i) + "' is not in the query results");
+            }
+        }
+
+        this.plan = plan;
+    }
+
+    private String partition(ColumnPlan plan, ResultSet rs, Connection connection) throws SQLException {
+        StringBuilder partition = new StringBuilder();
+
+        for (int i = 0; i < this.columns.length; i++) {
+            Object value = plan.read(this.columns[i], rs, connection);
+
+            if (i > 0) {
+                partition.append('/');
+            }
+            partition
+                .append(escape(this.partitionBy.get(i)))
+                .append('=')
+                .append(value == null ? NULL_PARTITION : escape(value.toString()));
+        }
+
+        return partition.toString();
+    }
+
+    static String escape(String value) {
+        StringBuilder escaped = null;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == 0x7F || ESCAPED_CHARS.indexOf(c) >= 0) {
+                if (escaped == null) {
+                    escaped = new StringBuilder(value.length() + 8).append(value, 0, i);
+                }
+                escaped.append('%').append(String.format("%02X", (int) c));
+            } else if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+
+        return escaped == null ? value : escaped.toString();
+    }
+
+    private void evictEldest() throws IOException {
+        Iterator<Map.Entry<String, RollingRowWriter>> iterator = this.open.entrySet().iterator();
+        Map.Entry<String, RollingRowWriter> eldest = iterator.next();
+        iterator.remove();
+
+        this.close(eldest.getKey(), eldest.getValue());
+    }
+
+    private void close(String partition, RollingRowWriter writer) throws IOException {
+        try {
+            writer.close();
+        } catch (IOException | RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+
+        this.partitions.get(partition).addAll(writer.uris());
+    }
+
+    @FunctionalInterface
+    public interface WriterOpener {
+        RollingRowWriter open() throws IOException;
+    }
+}
@@ -0,0 +1,138 @@
+package io.kestra.plugin.jdbc;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Split the values of a numeric or temporal column, between its MIN and MAX, into contiguous ranges.
+ * The first range is open on the lower side and also holds the null values, the last one is open on the upper side,
+ * so every row belongs to exactly one range, even if the bounds changed since they were computed.
+ */
+public final class RangeSplit {
+    private static final Range ALL = new Range("1 = 1", List.of());
+
+    private RangeSplit() {
+    }
+
+    /**
+     * @param column the column to split on, as used in a `WHERE` clause
+     * @param min the MIN value of the column, null if there is no rows
+     * @param max the MAX value of the column, null if there is no rows
+     * @param count the maximum number of ranges
+     */
+    public static List<Range> ranges(String column, Object min, Object max, int count) {
+        if (min == null || max == null || count <= 1) {
+            return List.of(ALL);
+        }
+
+        Codec codec = Codec.of(min);
+        BigDecimal lower = codec.toDecimal().apply(min);
+        BigDecimal upper = codec.toDecimal().apply(max);
+        if (lower.compareTo(upper) >= 0) {
+            return List.of(ALL);
+        }
+
+        BigDecimal step = upper.subtract(lower).divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+
+        // inner bounds, rounding may lead to the same bound twice (ie: a small integer range), only keep distinct ones
+        List<Object> bounds = new ArrayList<>(count - 1);
+        BigDecimal previous = null;
+        for (int i = 1; i < count; i++) {
+            Object bound = codec.fromDecimal().apply(lower.add(step.multiply(BigDecimal.valueOf(i))));
+            BigDecimal decimal = codec.toDecimal().apply(bound);
+
+            if (previous == null || decimal.compareTo(previous) > 0) {
+                bounds.add(bound);
+                previous = decimal;
+            }
+        }
+
+        List<Range> ranges = new ArrayList<>(bounds.size() + 1);
+        ranges.add(new Range("(" + column + " < ? OR " + column + " IS NULL)", List.of(bounds.getFirst())));
+        for (int i = 1; i < bounds.size(); i++) {
+            ranges.add(new Range(column + " >= ? AND " + column + " < ?", List.of(bounds.get(i - 1), bounds.get(i))));
+        }
+        ranges.add(new Range(column + " >= ?", List.of(bounds.getLast())));
+
+        return ranges;
+    }
+
+    /**
+     * @param predicate the `WHERE` predicate of the range, with `?` placeholders
+     * @param values the values for the placeholders of the predicate
+     */
+    public record Range(String predicate, List<Object> values) {
+    }
+
+    private record Codec(Function<Object, BigDecimal> toDecimal, Function<BigDecimal, Object> fromDecimal) {
+        static Codec of(Object value) {
+            return switch (value) {
+                case Integer i -> integral();
+                case Long l -> integral();
+                case Short s -> integral();
+                case Byte b -> integral();
+                case BigInteger i -> new Codec(v -> new BigDecimal((BigInteger) v), d -> d.setScale(0, RoundingMode.FLOOR).toBigInteger());
+                case BigDecimal d -> new Codec(v -> (BigDecimal) v, v -> v.setScale(Math.max(d.scale(), 0), RoundingMode.FLOOR));
+                case Float f -> new Codec(v -> BigDecimal.valueOf(((Float) v).doubleValue()), BigDecimal::floatValue);
+                case Double f -> new Codec(v -> BigDecimal.valueOf((Double) v), BigDecimal::doubleValue);
+                case java.sql.Date d -> new Codec(
+                    v -> BigDecimal.valueOf(((java.sql.Date) v).toLocalDate().toEpochDay()),
+                    v -> java.sql.Date.valueOf(LocalDate.ofEpochDay(floor(v)))
+                );
+                case LocalDate d -> new Codec(
+                    v -> BigDecimal.valueOf(((LocalDate) v).toEpochDay()),
+                    v -> LocalDate.ofEpochDay(floor(v))
+                );
+                case Timestamp t -> new Codec(
+                    v -> micros(((Timestamp) v).toInstant()),
+                    v -> Timestamp.from(instant(v))
+                );
+                case Instant i -> new Codec(v -> micros((Instant) v), RangeSplit::instant);
+                case LocalDateTime d -> new Codec(
+                    v -> micros(((LocalDateTime) v).toInstant(ZoneOffset.UTC)),
+                    v -> LocalDateTime.ofInstant(instant(v), ZoneOffset.UTC)
+                );
+                case OffsetDateTime d -> new Codec(
+                    v -> micros(((OffsetDateTime) v).toInstant()),
+                    v -> OffsetDateTime.ofInstant(instant(v), d.getOffset())
+                );
+                case ZonedDateTime d -> new Codec(
+                    v -> micros(((ZonedDateTime) v).toInstant()),
+                    v -> ZonedDateTime.ofInstant(instant(v), d.getZone())
+                );
+                default -> throw new IllegalArgumentException(
+                    "Invalid splitBy, the column must be numeric or temporal but its values are " + value.getClass().getName()
+                );
+            };
+        }
+
+        private static Codec integral() {
+            return new Codec(v -> BigDecimal.valueOf(((Number) v).longValue()), RangeSplit::floor);
+        }
+    }
+
+    private static long floor(BigDecimal value) {
+        return value.setScale(0, RoundingMode.FLOOR).longValueExact();
+    }
+
+    private static BigDecimal micros(Instant instant) {
+        return BigDecimal.valueOf(ChronoUnit.MICROS.between(Instant.EPOCH, instant));
+    }
+
+    private static Instant instant(BigDecimal micros) {
+        return Instant.EPOCH.plus(floor(micros), ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,82 @@
+package io.kestra.plugin.jdbc;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable row of a {@link java.sql.ResultSet}, exposed as an ordered {@link Map}.
+ * The column names and their lookup index are shared by all the rows of a {@link ColumnPlan},
+ * a row only holds its values.
+ */
+public final class ResultRow extends AbstractMap<String, Object> {
+    private final String[] keys;
+    private final Map<String, Integer> index;
+    private final Object[] values;
+
+    ResultRow(String[] keys, Map<String, Integer> index, Object[] values) {
+        this.keys = keys;
+        this.index = index;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return this.keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.index.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        Integer position = this.index.get(key);
+        return position == null ? null : this.values[position];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < this.keys.length; i++) {
+            action.accept(this.keys[i], this.values[i]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return keys.length;
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int position = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return position < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (position >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>(keys[position], values[position]);
+                        position++;
+                        return entry;
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package io.kestra.plugin.jdbc;
+
+import io.kestra.core.models.tasks.common.FetchType;
+
+/**
+ * How a driver that loads the whole result set in memory by default (ie: MySQL or MariaDB) is asked to fetch it.
+ */
+public enum ResultStreaming {
+    /**
+     * The rows are read from the network as they are consumed, nothing is buffered on the client nor on the server,
+     * but the connection can't run anything else until the result set is fully read.
+     */
+    ROW_STREAMING,
+    /**
+     * The rows are fetched by batches of `fetchSize` from a server-side cursor.
+     */
+    CURSOR_FETCH,
+    /**
+     * The whole result set is loaded in memory by the driver, the fastest when all the rows are kept anyway.
+     */
+    BUFFERED;
+
+    public static ResultStreaming of(FetchType fetchType) {
+        return switch (fetchType) {
+            // the rows are written to storage as they come, so only the current one needs to be in memory
+            case STORE -> ROW_STREAMING;
+            // only the first batch is transferred
+            case FETCH_ONE -> CURSOR_FETCH;
+            case FETCH, NONE -> BUFFERED;
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package io.kestra.plugin.jdbc;
+
+import java.io.IOException;
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Write rows to files in Kestra's internal storage, rolling over to a new file once the current one reaches
+ * a maximum number of rows or bytes. Each file is uploaded as soon as it's full, while the next rows are fetched.
+ * Without any limit, all the rows go to a single file.
+ */
+public class RollingRowWriter implements RowWriter {
+    private final FileOpener opener;
+    private final Long maxRows;
+    private final Long maxBytes;
+    private final List<URI> uris = new ArrayList<>();
+    private StorageRowWriter current;
+
+    public RollingRowWriter(FileOpener opener, Long maxRows, Long maxBytes) {
+        if (maxRows != null && maxRows <= 0) {
+            throw new IllegalArgumentException("maxRowsPerFile must be greater than 0, got " + maxRows);
+        }
+        if (maxBytes != null && maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytesPerFile must be greater than 0, got " + maxBytes);
+        }
+
+        this.opener = opener;
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public void write(ColumnPlan plan, ResultSet rs, Connection connection) throws SQLException, IOException {
+        if (this.current == null) {
+            this.current = this.opener.open();
+        }
+
+        this.current.write(plan, rs, connection);
+
+        if ((this.maxRows != null && this.current.rows() >= this.maxRows) || (this.maxBytes != null && this.current.bytes() >= this.maxBytes)) {
+            this.roll();
+        }
+    }
+
+    public List<URI> uris() {
+        return this.uris;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // always create a file, even without any rows
+        if (this.current == null && this.uris.isEmpty()) {
+            this.current = this.opener.open();
+        }
+
+        if (this.current != null) {
+            this.roll();
+        }
+    }
+
+    public void abort() {
+        if (this.current != null) {
+            this.current.abort();
+            this.current = null;
+        }
+    }
+
+    private void roll() throws IOException {
+        this.current.close();
+        this.uris.add(this.current.uri());
+        this.current = null;
+    }
+
+    @FunctionalInterface
+    public interface FileOpener {
+        StorageRowWriter open() throws IOException;
+    }
+}
@@ -0,0 +1,139 @@
+package io.kestra.plugin.jdbc;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bind the rows of a Batch to the parameters of its statement.
+ * <p>
+ * The setter of each parameter is resolved once, see {@link AbstractCellConverter#compileBinder(AbstractJdbcBatch.ParameterType, int)},
+ * the rows are already read as the values of the parameters in their order (ie: by a {@link RowReader}).
+ * <p>
+ * The values of text formats (CSV, JSON) are converted to the parameter class first, ie: a `"2030-12-25"` string to a
+ * date, or a JSON floating number to a decimal, as these formats don't have typed values like Ion.
+ */
+final class RowBinder {
+    private final AbstractCellConverter cellConverter;
+    private final AbstractJdbcBatch.ParameterType parameterType;
+    private final Connection connection;
+    private final boolean convertText;
+    private final AbstractCellConverter.ParameterBinder[] binders;
+
+    RowBinder(AbstractCellConverter cellConverter, AbstractJdbcBatch.ParameterType parameterType, Connection connection, boolean convertText) {
+        this.cellConverter = cellConverter;
+        this.parameterType = parameterType;
+        this.connection = connection;
+        this.convertText = convertText;
+        this.binders = new AbstractCellConverter.ParameterBinder[parameterType.getCount() + 1];
+    }
+
+    /**
+     * Set the parameters of the statement from the row values, the row is not added to the batch.
+     * The offset is the number of parameters before the ones of the row, ie: the previous rows of a multi-row INSERT.
+     */
+    void bind(PreparedStatement ps, Object[] values, int offset) throws Exception {
+        for (int index = 1; index <= values.length; index++) {
+            this.binder(offset + index).bind(ps, values[index - 1], this.connection);
+        }
+    }
+
+    private AbstractCellConverter.ParameterBinder binder(int index) {
+        // a row with more values than parameters is reported by the converter when the value is set
+        if (index >= this.binders.length) {
+            return (ps, value, connection) -> this.cellConverter.addPreparedStatementValue(ps, this.parameterType, value, index, connection);
+        }
+
+        AbstractCellConverter.ParameterBinder binder = this.binders[index];
+        if (binder == null) {
+            binder = this.cellConverter.compileBinder(this.parameterType, index);
+
+            Function<Object, Object> conversion = this.convertText ? conversion(this.parameterType.getClass(index)) : null;
+            if (conversion != null) {
+                AbstractCellConverter.ParameterBinder typed = binder;
+                binder = (ps, value, connection) -> {
+                    Object converted;
+                    try {
+                        converted = value == null ? null : conversion.apply(value);
+                    } catch (RuntimeException e) {
+                        throw this.cellConverter.addPreparedStatementException(this.parameterType, index, value, e);
+                    }
+                    typed.bind(ps, converted, connection);
+                };
+            }
+
+            this.binders[index] = binder;
+        }
+        return binder;
+    }
+
+    /**
+     * The conversion of a text or a number to the parameter class, null if the values are bound as they are.
+     */
+    private static Function<Object, Object> conversion(Class<?> cls) {
+        if (cls == null) {
+            return null;
+        } else if (cls == Integer.class) {
+            return number(s -> Integer.valueOf(s.trim()), Number::intValue);
+        } else if (cls == Long.class) {
+            return number(s -> Long.valueOf(s.trim()), Number::longValue);
+        } else if (cls == Double.class) {
+            return number(s -> Double.valueOf(s.trim()), Number::doubleValue);
+        } else if (cls == Float.class) {
+            return number(s -> Float.valueOf(s.trim()), Number::floatValue);
+        } else if (cls == BigDecimal.class) {
+            return number(s -> new BigDecimal(s.trim()), n -> n instanceof BigDecimal ? n : new BigDecimal(n.toString()));
+        } else if (cls == BigInteger.class) {
+            return number(s -> new BigInteger(s.trim()), n -> n instanceof BigInteger ? n : BigInteger.valueOf(n.longValue()));
+        } else if (cls == Boolean.class) {
+            return text(RowBinder::parseBoolean);
+        } else if (cls == UUID.class) {
+            return text(s -> UUID.fromString(s.trim()));
+        } else if (cls == java.sql.Date.class) {
+            return text(s -> LocalDate.parse(s.trim()));
+        } else if (cls == java.sql.Time.class) {
+            return text(s -> LocalTime.parse(s.trim()));
+        } else if (cls == java.sql.Timestamp.class) {
+            return text(RowBinder::parseTimestamp);
+        }
+
+        return null;
+    }
+
+    private static Function<Object, Object> text(Function<String, Object> parse) {
+        return value -> value instanceof String string ? parse.apply(string) : value;
+    }
+
+    private static Function<Object, Object> number(Function<String, Object> parse, Function<Number, Object> convert) {
+        return value -> switch (value) {
+            case String string -> parse.apply(string);
+            case Number number -> convert.apply(number);
+            default -> value;
+        };
+    }
+
+    private static Boolean parseBoolean(String value) {
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "t", "yes", "y", "1" -> Boolean.TRUE;
+            case "false", "f", "no", "n", "0" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException("Invalid boolean '" + value + "'");
+        };
+    }
+
+    private static Object parseTimestamp(String value) {
+        String timestamp = value.trim().replace(' ', 'T');
+        TemporalAccessor parsed = DateTimeFormatter.ISO_DATE_TIME.parseBest(timestamp, ZonedDateTime::from, LocalDateTime::from);
+        return parsed instanceof ZonedDateTime zoned && zoned.getZone() instanceof ZoneOffset ? zoned.toOffsetDateTime() : parsed;
+    }
+}
@@ -0,0 +1,21 @@
+package io.kestra.plugin.jdbc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Read the rows of a Batch input file, in one of the {@link AbstractJdbcBatch.InputFormat}, as the values of the
+ * statement parameters in their order.
+ */
+public interface RowReader extends Iterator<Object[]>, Closeable {
+    static RowReader of(AbstractJdbcBatch.InputFormat format, InputStream inputStream, List<String> columns, boolean csvHeader, char csvSeparator) throws IOException {
+        return switch (format) {
+            case ION -> new JacksonRowReader(JacksonRowReader.ION_MAPPER, inputStream, columns);
+            case JSONL -> new JacksonRowReader(JacksonRowReader.JSON_MAPPER, inputStream, columns);
+            case CSV -> new CsvRowReader(inputStream, columns, csvHeader, csvSeparator);
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package io.kestra.plugin.jdbc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Serialize the rows of a {@link ResultSet} to a file, in one of the {@link AbstractJdbcBaseQuery.StoreFormat}.
+ */
+public interface RowWriter extends Closeable {
+    void write(ColumnPlan plan, ResultSet rs, Connection connection) throws SQLException, IOException;
+
+    static RowWriter of(AbstractJdbcBaseQuery.StoreFormat storeFormat, OutputStream outputStream) {
+        return switch (storeFormat) {
+            case ION -> new IonRowWriter(outputStream, false);
+            case ION_BINARY -> new IonRowWriter(outputStream, true);
+            case ARROW -> new ArrowRowWriter(outputStream);
+        };
+    }
+}
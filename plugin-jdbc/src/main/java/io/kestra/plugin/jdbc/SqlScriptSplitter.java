@@ -0,0 +1,456 @@
+package io.kestra.plugin.jdbc;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Split a SQL script into its statements, lazily, so only the current statement is extracted from the script.
+ * <p>
+ * Statements are separated by `;` outside of string literals, quoted identifiers, comments and `BEGIN ... END` blocks
+ * (ie: a stored procedure or trigger body), the separator itself is not part of the statement.
+ * Statements with only comments are skipped.
+ * <p>
+ * Blocks are only looked for in the statements that can hold them: routine definitions (`CREATE PROCEDURE`, `CREATE TRIGGER`, ...)
+ * and procedural statements (`BEGIN`, `DECLARE`, `DO`, `IF`, `WHILE`). Elsewhere, `begin` and `end` can only be names.
+ */
+public final class SqlScriptSplitter implements Iterable<String> {
+    // `BEGIN` followed by these words starts a transaction, not a block
+    private static final Set<String> TRANSACTION_WORDS = Set.of(
+        "TRANSACTION", "TRAN", "WORK", "DEFERRED", "IMMEDIATE", "EXCLUSIVE", "ISOLATION", "READ", "DISTRIBUTED"
+    );
+
+    // `END` followed by these words closes a control statement, not a block
+    private static final Set<String> CONTROL_WORDS = Set.of("IF", "LOOP", "WHILE", "REPEAT", "FOR");
+
+    // the first words of the statements that can hold blocks, `CREATE` and `ALTER` only for the ROUTINE_WORDS
+    private static final Set<String> BLOCK_STATEMENTS = Set.of("BEGIN", "DECLARE", "DO", "IF", "WHILE");
+    private static final Set<String> ROUTINE_WORDS = Set.of("PROCEDURE", "PROC", "FUNCTION", "TRIGGER", "EVENT", "PACKAGE", "TYPE");
+
+    // `BEGIN` followed by a type is a column definition, not a block
+    private static final Set<String> TYPE_NAMES = Set.of(
+        "INT", "INTEGER", "BIGINT", "SMALLINT", "TINYINT", "DECIMAL", "NUMERIC", "NUMBER", "FLOAT", "REAL", "DOUBLE",
+        "CHAR", "VARCHAR", "VARCHAR2", "NVARCHAR", "TEXT", "DATE", "TIME", "TIMESTAMP", "TIMESTAMPTZ", "DATETIME", "DATETIME2",
+        "INTERVAL", "BOOLEAN", "BOOL", "BIT", "BLOB", "CLOB", "BYTEA", "JSON", "JSONB", "UUID"
+    );
+
+    // a PL/SQL unit can contain `;` outside a `BEGIN ... END` block (ie: its declarations), so it's ended by a `/` line
+    private static final Pattern PLSQL_UNIT = Pattern.compile(
+        "(DECLARE|BEGIN|CREATE\\s+(OR\\s+REPLACE\\s+)?((NON)?EDITIONABLE\\s+)?(PROCEDURE|FUNCTION|PACKAGE|TRIGGER|TYPE))\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    private static final Pattern GO_LINE = Pattern.compile("[ \\t]*GO[ \\t]*(\\r?\\n|$)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SLASH_LINE = Pattern.compile("[ \\t]*/[ \\t]*(\\r?\\n|$)");
+
+    private final CharSequence script;
+    private final Dialect dialect;
+
+    public SqlScriptSplitter(CharSequence script, Dialect dialect) {
+        this.script = script;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new StatementIterator();
+    }
+
+    public enum Dialect {
+        /**
+         * `'` and `"` quotes doubled to be escaped, line and block comments.
+         */
+        ANSI,
+        /**
+         * Also `$tag$ ... $tag$` dollar quotes, `E'...'` strings with backslash escapes and nested block comments.
+         */
+        POSTGRES,
+        /**
+         * Also backslash escapes in quotes, and `#` comments.
+         */
+        MYSQL,
+        /**
+         * Also `[...]` quoted identifiers, and `GO` lines as batch separators.
+         */
+        SQLSERVER,
+        /**
+         * Also PL/SQL units (anonymous blocks, procedures, packages, ...) that are only ended by a `/` line.
+         */
+        ORACLE,
+        /**
+         * Also `[...]` quoted identifiers.
+         */
+        SQLITE
+    }
+
+    private class StatementIterator implements Iterator<String> {
+        private final int length = script.length();
+        private int position = 0;
+        private String next;
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) {
+                this.next = this.nextStatement();
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            String statement = this.next;
+            this.next = null;
+            return statement;
+        }
+
+        private String nextStatement() {
+            int start = this.position;
+            int depth = 0;
+            boolean plsql = false;
+            boolean code = false;
+            // whether the statement can hold blocks, and whether it's still in the header of a `CREATE` or `ALTER`
+            boolean blocks = false;
+            boolean header = false;
+
+            while (this.position < this.length) {
+                int lineEnd = this.separatorLineEnd();
+                if (lineEnd >= 0) {
+                    int end = this.position;
+                    this.position = lineEnd;
+                    if (code) {
+                        return script.subSequence(start, end).toString().strip();
+                    }
+                    start = this.position;
+                    continue;
+                }
+
+                char c = script.charAt(this.position);
+                switch (c) {
+                    case '\'' -> {
+                        boolean escaped = dialect == Dialect.MYSQL
+                            || (dialect == Dialect.POSTGRES && this.position > 0 && Character.toUpperCase(script.charAt(this.position - 1)) == 'E');
+                        this.position = this.skipQuoted('\'', '\'', escaped);
+                        code = true;
+                    }
+                    case '"' -> {
+                        this.position = this.skipQuoted('"', '"', dialect == Dialect.MYSQL);
+                        code = true;
+                    }
+                    case '`' -> {
+                        this.position = this.skipQuoted('`', '`', false);
+                        code = true;
+                    }
+                    case '[' -> {
+                        this.position = dialect == Dialect.SQLSERVER || dialect == Dialect.SQLITE ? this.skipQuoted('[', ']', false) : this.position + 1;
+                        code = true;
+                    }
+                    case '-' -> {
+                        if (this.startsWith("--")) {
+                            this.position = this.skipLineComment();
+                        } else {
+                            this.position++;
+                            code = true;
+                        }
+                    }
+                    case '#' -> {
+                        if (dialect == Dialect.MYSQL) {
+                            this.position = this.skipLineComment();
+                        } else {
+                            this.position++;
+                            code = true;
+                        }
+                    }
+                    case '/' -> {
+                        if (this.startsWith("/*")) {
+                            this.position = this.skipBlockComment();
+                        } else {
+                            this.position++;
+                            code = true;
+                        }
+                    }
+                    case '$' -> {
+                        this.position = dialect == Dialect.POSTGRES ? this.skipDollarQuoted() : this.position + 1;
+                        code = true;
+                    }
+                    case ';' -> {
+                        this.position++;
+                        if (depth == 0 && !plsql) {
+                            if (code) {
+                                return script.subSequence(start, this.position - 1).toString().strip();
+                            }
+                            start = this.position;
+                        }
+                    }
+                    default -> {
+                        if (Character.isWhitespace(c)) {
+                            this.position++;
+                        } else if (Character.isLetter(c) || c == '_') {
+                            if (!code && dialect == Dialect.ORACLE && this.lookingAt(PLSQL_UNIT)) {
+                                plsql = true;
+                            }
+
+                            int wordStart = this.position;
+                            boolean qualified = this.position > 0 && script.charAt(this.position - 1) == '.';
+                            String word = this.readWord().toUpperCase();
+
+                            if (!code) {
+                                blocks = BLOCK_STATEMENTS.contains(word);
+                                header = word.equals("CREATE") || word.equals("ALTER");
+                            } else if (header && ROUTINE_WORDS.contains(word)) {
+                                blocks = true;
+                                header = false;
+                            }
+
+                            if (!qualified) {
+                                switch (word) {
+                                    case "BEGIN" -> {
+                                        if ((blocks || depth > 0) && this.opensBlock(wordStart)) {
+                                            depth++;
+                                        }
+                                    }
+                                    case "CASE" -> depth++;
+                                    case "END" -> {
+                                        String following = this.peekWord();
+                                        if (following != null && CONTROL_WORDS.contains(following.toUpperCase())) {
+                                            this.skipWord();
+                                        } else if (depth > 0 && !this.isName(wordStart)) {
+                                            depth--;
+                                            // `END CASE` closes a case statement, the word must not open another one
+                                            if ("CASE".equalsIgnoreCase(following)) {
+                                                this.skipWord();
+                                            }
+                                        }
+                                    }
+                                    default -> {
+                                    }
+                                }
+                            }
+                            code = true;
+                        } else {
+                            // the header of a `CREATE TABLE` or `CREATE INDEX` ends with its parenthesis
+                            if (c == '(') {
+                                header = false;
+                            }
+                            this.position++;
+                            code = true;
+                        }
+                    }
+                }
+            }
+
+            return code ? script.subSequence(start, this.length).toString().strip() : null;
+        }
+
+        /**
+         * Whether the `BEGIN` word at this position, just read, opens a block, and is not a transaction start nor a name.
+         */
+        private boolean opensBlock(int wordStart) {
+            String following = this.peekWord();
+            if (following == null) {
+                return false;
+            }
+
+            String next = following.toUpperCase();
+            if (TRANSACTION_WORDS.contains(next) || TYPE_NAMES.contains(next)) {
+                return false;
+            }
+            if (next.isEmpty() && ",=).".indexOf(this.peekChar()) >= 0) {
+                return false;
+            }
+
+            return !this.isName(wordStart);
+        }
+
+        /**
+         * Whether the word at this position is used as a name, as it follows a character or word that only a name can follow.
+         */
+        private boolean isName(int wordStart) {
+            int i = wordStart - 1;
+            while (i >= 0 && Character.isWhitespace(script.charAt(i))) {
+                i--;
+            }
+            if (i < 0) {
+                return false;
+            }
+
+            char previous = script.charAt(i);
+            if ("(,.=".indexOf(previous) >= 0) {
+                return true;
+            }
+
+            int end = i + 1;
+            while (i >= 0 && isWordChar(script.charAt(i))) {
+                i--;
+            }
+            return "SET".equalsIgnoreCase(script.subSequence(i + 1, end).toString());
+        }
+
+        /**
+         * The end of the current line if it's a batch separator line for the dialect, -1 otherwise.
+         */
+        private int separatorLineEnd() {
+            if (this.position > 0 && script.charAt(this.position - 1) != '\n') {
+                return -1;
+            }
+
+            Pattern pattern = switch (dialect) {
+                case SQLSERVER -> GO_LINE;
+                case ORACLE -> SLASH_LINE;
+                default -> null;
+            };
+            if (pattern == null) {
+                return -1;
+            }
+
+            Matcher matcher = pattern.matcher(script).region(this.position, this.length);
+            return matcher.lookingAt() ? matcher.end() : -1;
+        }
+
+        private boolean lookingAt(Pattern pattern) {
+            return pattern.matcher(script).region(this.position, this.length).lookingAt();
+        }
+
+        private boolean startsWith(String prefix) {
+            if (this.position + prefix.length() > this.length) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (script.charAt(this.position + i) != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String readWord() {
+            int start = this.position;
+            while (this.position < this.length && isWordChar(script.charAt(this.position))) {
+                this.position++;
+            }
+            return script.subSequence(start, this.position).toString();
+        }
+
+        private void skipWord() {
+            while (this.position < this.length && Character.isWhitespace(script.charAt(this.position))) {
+                this.position++;
+            }
+            this.readWord();
+        }
+
+        /**
+         * The word following the current position, "" if it's followed by something else than a word, null at the end of the statement.
+         */
+        private String peekWord() {
+            int i = this.position;
+            while (i < this.length && Character.isWhitespace(script.charAt(i))) {
+                i++;
+            }
+            if (i >= this.length || script.charAt(i) == ';') {
+                return null;
+            }
+
+            int start = i;
+            while (i < this.length && isWordChar(script.charAt(i))) {
+                i++;
+            }
+            return script.subSequence(start, i).toString();
+        }
+
+        /**
+         * The character following the current position and whitespaces, 0 at the end of the script.
+         */
+        private char peekChar() {
+            int i = this.position;
+            while (i < this.length && Character.isWhitespace(script.charAt(i))) {
+                i++;
+            }
+            return i < this.length ? script.charAt(i) : 0;
+        }
+
+        private int skipQuoted(char open, char close, boolean backslashEscapes) {
+            int i = this.position + 1;
+            while (i < this.length) {
+                char c = script.charAt(i);
+                if (backslashEscapes && c == '\\') {
+                    i += 2;
+                } else if (c == close) {
+                    // a doubled closing quote is an escaped one
+                    if (i + 1 < this.length && script.charAt(i + 1) == close && open == close) {
+                        i += 2;
+                    } else {
+                        return i + 1;
+                    }
+                } else {
+                    i++;
+                }
+            }
+            return this.length;
+        }
+
+        private int skipLineComment() {
+            int i = this.position;
+            while (i < this.length && script.charAt(i) != '\n') {
+                i++;
+            }
+            return i;
+        }
+
+        private int skipBlockComment() {
+            int depth = 0;
+            int i = this.position;
+            while (i < this.length) {
+                if (i + 1 < this.length && script.charAt(i) == '/' && script.charAt(i + 1) == '*') {
+                    depth = dialect == Dialect.POSTGRES ? depth + 1 : 1;
+                    i += 2;
+                } else if (i + 1 < this.length && script.charAt(i) == '*' && script.charAt(i + 1) == '/') {
+                    depth--;
+                    i += 2;
+                    if (depth == 0) {
+                        return i;
+                    }
+                } else {
+                    i++;
+                }
+            }
+            return this.length;
+        }
+
+        private int skipDollarQuoted() {
+            int start = this.position;
+            // `$` inside an identifier, or a positional parameter like `$1`, is not a dollar quote
+            if (start > 0 && isWordChar(script.charAt(start - 1))) {
+                return start + 1;
+            }
+
+            int tagEnd = start + 1;
+            while (tagEnd < this.length && script.charAt(tagEnd) != '$') {
+                char c = script.charAt(tagEnd);
+                if (!(Character.isLetter(c) || c == '_' || (tagEnd > start + 1 && Character.isDigit(c)))) {
+                    return start + 1;
+                }
+                tagEnd++;
+            }
+            if (tagEnd >= this.length) {
+                return start + 1;
+            }
+
+            String tag = script.subSequence(start, tagEnd + 1).toString();
+            for (int i = tagEnd + 1; i + tag.length() <= this.length; i++) {
+                if (script.charAt(i) == '$' && script.subSequence(i, i + tag.length()).toString().equals(tag)) {
+                    return i + tag.length();
+                }
+            }
+            return this.length;
+        }
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+}
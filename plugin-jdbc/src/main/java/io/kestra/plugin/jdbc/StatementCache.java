@@ -0,0 +1,220 @@
+package io.kestra.plugin.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The prepared statements of a pooled connection, kept open when they are closed so the next run of the same SQL
+ * skips the parse and plan on the server.
+ * <p>
+ * A statement is removed from the cache while it's in use, so preparing the same SQL twice at the same time
+ * gives two statements. The least recently used statements are closed when the cache is full.
+ */
+final class StatementCache {
+    static final int MAX_SIZE = 64;
+    // don't keep huge statements (ie: generated multi-values INSERT) in memory
+    private static final int MAX_SQL_LENGTH = 64 * 1024;
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long hits = 0;
+
+    /**
+     * Take the statement out of the cache, or prepare it on the physical connection if it's not cached.
+     */
+    synchronized PreparedStatement prepare(Connection physical, Connection lent, String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        Key key = new Key(sql, resultSetType, resultSetConcurrency);
+
+        Entry entry = this.entries.remove(key);
+        if (entry != null && !entry.statement.isClosed()) {
+            this.hits++;
+        } else {
+            PreparedStatement statement = physical.prepareStatement(sql, resultSetType, resultSetConcurrency);
+            try {
+                entry = new Entry(statement);
+            } catch (SQLException | RuntimeException e) {
+                statement.close();
+                throw e;
+            }
+        }
+
+        if (sql.length() > MAX_SQL_LENGTH) {
+            return entry.statement;
+        }
+
+        return (PreparedStatement) Proxy.newProxyInstance(
+            PreparedStatement.class.getClassLoader(),
+            new Class<?>[]{PreparedStatement.class},
+            new Handler(this, key, entry, lent)
+        );
+    }
+
+    /**
+     * The number of statements that were reused since the connection was opened.
+     */
+    synchronized long hits() {
+        return this.hits;
+    }
+
+    synchronized void closeAll() {
+        this.entries.values().forEach(Entry::closePhysical);
+        this.entries.clear();
+    }
+
+    private synchronized void release(Key key, Entry entry) {
+        if (!entry.reset()) {
+            entry.closePhysical();
+            return;
+        }
+
+        Entry previous = this.entries.put(key, entry);
+        if (previous != null) {
+            previous.closePhysical();
+        }
+
+        if (this.entries.size() > MAX_SIZE) {
+            Iterator<Entry> eldest = this.entries.values().iterator();
+            eldest.next().closePhysical();
+            eldest.remove();
+        }
+    }
+
+    private record Key(String sql, int resultSetType, int resultSetConcurrency) {
+    }
+
+    private static final class Entry {
+        private final PreparedStatement statement;
+        // the parameter types don't change for the same SQL, and are fetched from the server by some drivers
+        private ParameterMetaData parameterMetaData;
+
+        // the driver defaults, restored when the statement goes back to the cache
+        private final int fetchSize;
+        private final int maxRows;
+        private final int queryTimeout;
+
+        private Entry(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.fetchSize = statement.getFetchSize();
+            this.maxRows = statement.getMaxRows();
+            this.queryTimeout = statement.getQueryTimeout();
+        }
+
+        private ParameterMetaData parameterMetaData() throws SQLException {
+            if (this.parameterMetaData == null) {
+                this.parameterMetaData = this.statement.getParameterMetaData();
+            }
+            return this.parameterMetaData;
+        }
+
+        /**
+         * Clear what the previous run left on the statement, false if it can't be reused.
+         */
+        private boolean reset() {
+            try {
+                if (this.statement.isClosed()) {
+                    return false;
+                }
+
+                ResultSet resultSet = this.statement.getResultSet();
+                if (resultSet != null) {
+                    resultSet.close();
+                }
+                this.statement.clearParameters();
+                this.statement.clearBatch();
+                this.statement.clearWarnings();
+
+                if (this.statement.getFetchSize() != this.fetchSize) {
+                    this.statement.setFetchSize(this.fetchSize);
+                }
+                if (this.statement.getMaxRows() != this.maxRows) {
+                    this.statement.setMaxRows(this.maxRows);
+                }
+                if (this.statement.getQueryTimeout() != this.queryTimeout) {
+                    this.statement.setQueryTimeout(this.queryTimeout);
+                }
+
+                return true;
+            } catch (SQLException | RuntimeException e) {
+                return false;
+            }
+        }
+
+        private void closePhysical() {
+            try {
+                this.statement.close();
+            } catch (SQLException ignored) {
+                // the statement is discarded anyway
+            }
+        }
+    }
+
+    /**
+     * The statement lent to a task: closing it gives the statement back to the cache, and it can't be used afterward.
+     */
+    private static final class Handler implements InvocationHandler {
+        private final StatementCache cache;
+        private final Key key;
+        private final Entry entry;
+        private final Connection connection;
+        private boolean closed = false;
+
+        private Handler(StatementCache cache, Key key, Entry entry, Connection connection) {
+            this.cache = cache;
+            this.key = key;
+            this.entry = entry;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!this.closed) {
+                        this.closed = true;
+                        this.cache.release(this.key, this.entry);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return this.closed || this.entry.statement.isClosed();
+                }
+                case "getConnection" -> {
+                    // the pooled connection, not the physical one, that must not be closed by the task
+                    return this.connection;
+                }
+                case "getParameterMetaData" -> {
+                    return this.entry.parameterMetaData();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Cached" + this.entry.statement;
+                }
+                default -> {
+                    if (this.closed) {
+                        throw new SQLException("The statement is closed");
+                    }
+                }
+            }
+
+            try {
+                return method.invoke(this.entry.statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
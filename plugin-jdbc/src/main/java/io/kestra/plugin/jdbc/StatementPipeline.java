@@ -0,0 +1,106 @@
+package io.kestra.plugin.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * Group consecutive statements that don't return any results into a JDBC batch, so they are sent to the database
+ * in one round trip instead of one per statement.
+ * A statement that returns results must {@link #flush()} the pipeline before it runs, to keep the script order.
+ */
+final class StatementPipeline implements AutoCloseable {
+    // bound the statements kept in memory by the driver before they are sent
+    private static final int MAX_STATEMENTS = 1000;
+
+    private static final Pattern LEADING_COMMENTS = Pattern.compile("^(\\s|--[^\\n]*(\\n|$)|/\\*.*?\\*/)+", Pattern.DOTALL);
+    private static final Pattern NO_RESULT_START = Pattern.compile(
+        "^(INSERT|UPDATE|DELETE|MERGE|UPSERT|REPLACE|CREATE|DROP|ALTER|TRUNCATE|GRANT|REVOKE|COMMENT|RENAME)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+    private static final Pattern RESULT_KEYWORDS = Pattern.compile("\\b(RETURNING|OUTPUT)\\b", Pattern.CASE_INSENSITIVE);
+    // some databases only accept a view or routine definition as the first statement of a batch, looked for before the first `(`
+    private static final Pattern DEFINITION_START = Pattern.compile(
+        "^(CREATE|ALTER)\\b[^(]*?\\b(VIEW|PROCEDURE|PROC|FUNCTION|TRIGGER|EVENT|PACKAGE|TYPE|RULE)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    private final Connection connection;
+    private Statement statement;
+    private boolean supported;
+    private int pending = 0;
+    private long count = 0;
+
+    StatementPipeline(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.supported = connection.getMetaData().supportsBatchUpdates();
+    }
+
+    /**
+     * Whether the statement can be pipelined: it doesn't return any results, nor define a view or a routine,
+     * nor use named parameters when the task has some.
+     * It's a conservative guess, a statement that may return results (ie: `INSERT ... RETURNING`) is run on its own.
+     */
+    static boolean canPipeline(String sql, boolean namedParameters) {
+        String query = LEADING_COMMENTS.matcher(sql).replaceFirst("");
+
+        // parsed without the cache, the statements of a script would evict the ones that are run again and again
+        return NO_RESULT_START.matcher(query).find()
+            && !RESULT_KEYWORDS.matcher(query).find()
+            && !DEFINITION_START.matcher(query).find()
+            && (!namedParameters || ParsedStatement.parse(sql).parameters().isEmpty());
+    }
+
+    /**
+     * Add the statement to the pipeline, false if the driver can't batch it, so it must run on its own.
+     */
+    boolean add(String sql) throws SQLException {
+        if (!this.supported) {
+            return false;
+        }
+
+        if (this.statement == null) {
+            this.statement = this.connection.createStatement();
+        }
+
+        try {
+            this.statement.addBatch(sql);
+        } catch (SQLFeatureNotSupportedException e) {
+            this.supported = false;
+            return false;
+        }
+        this.count++;
+
+        if (++this.pending >= MAX_STATEMENTS) {
+            this.flush();
+        }
+
+        return true;
+    }
+
+    void flush() throws SQLException {
+        if (this.pending == 0) {
+            return;
+        }
+
+        this.statement.executeBatch();
+        this.statement.clearBatch();
+        this.pending = 0;
+    }
+
+    /**
+     * The number of statements that went through the pipeline.
+     */
+    long count() {
+        return this.count;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (this.statement != null) {
+            this.statement.close();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.kestra.plugin.jdbc;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.IdUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Write rows to a single file in Kestra's internal storage, streamed with the given format and compression.
+ */
+public class StorageRowWriter implements RowWriter {
+    private final StreamingUpload upload;
+    private final RowWriter rowWriter;
+    private long rows = 0L;
+    private URI uri;
+
+    public StorageRowWriter(RunContext runContext, AbstractJdbcBaseQuery.StoreFormat storeFormat, StoreCompression compression, Integer compressionLevel) throws IOException {
+        this.upload = StreamingUpload.start(runContext, IdUtils.create() + storeFormat.getExtension() + compression.getExtension());
+
+        try {
+            this.rowWriter = RowWriter.of(storeFormat, compression.wrap(this.upload.outputStream(), compressionLevel));
+        } catch (IOException | RuntimeException e) {
+            this.upload.abort();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(ColumnPlan plan, ResultSet rs, Connection connection) throws SQLException, IOException {
+        this.rowWriter.write(plan, rs, connection);
+        this.rows++;
+    }
+
+    public long rows() {
+        return this.rows;
+    }
+
+    /**
+     * The number of bytes written so far, after compression. As the format writers buffer,
+     * the last rows are usually not counted until the file is closed.
+     */
+    public long bytes() {
+        return this.upload.bytesWritten();
+    }
+
+    /**
+     * The URI of the file on internal storage, only available once closed.
+     */
+    public URI uri() {
+        return this.uri;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.rowWriter.close();
+        this.uri = this.upload.finish();
+    }
+
+    /**
+     * Stop the upload without storing the file, ie: when the rows can't be fetched.
+     */
+    public void abort() {
+        this.upload.abort();
+
+        try {
+            // release the writer resources, the content is discarded anyway
+            this.rowWriter.close();
+        } catch (IOException | RuntimeException ignored) {
+        }
+    }
+}
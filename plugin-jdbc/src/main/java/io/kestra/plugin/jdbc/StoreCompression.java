@@ -0,0 +1,54 @@
+package io.kestra.plugin.jdbc;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression applied while a file is written to internal storage.
+ */
+@Getter
+@AllArgsConstructor
+public enum StoreCompression {
+    NONE("", 0, 0, 0),
+    GZIP(".gz", 1, 9, 6),
+    ZSTD(".zst", 1, 19, 3);
+
+    private final String extension;
+    private final int minLevel;
+    private final int maxLevel;
+    private final int defaultLevel;
+
+    /**
+     * Wrap the output stream so bytes are compressed as they are written, closing the returned stream ends the
+     * compressed content and closes the given one.
+     *
+     * @param level the compression level, or null for the default level of the algorithm
+     */
+    public OutputStream wrap(OutputStream outputStream, Integer level) throws IOException {
+        if (this == NONE) {
+            return outputStream;
+        }
+
+        int compressionLevel = level == null ? this.defaultLevel : level;
+        if (compressionLevel < this.minLevel || compressionLevel > this.maxLevel) {
+            throw new IllegalArgumentException(
+                "Invalid compression level " + compressionLevel + " for " + this + ", must be between " + this.minLevel + " and " + this.maxLevel
+            );
+        }
+
+        return switch (this) {
+            case GZIP -> new GZIPOutputStream(outputStream, 64 * 1024) {
+                {
+                    def.setLevel(compressionLevel);
+                }
+            };
+            case ZSTD -> new ZstdOutputStream(outputStream, compressionLevel);
+            case NONE -> outputStream;
+        };
+    }
+}
@@ -0,0 +1,252 @@
+package io.kestra.plugin.jdbc;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upload a file to Kestra's internal storage while it's written, through a bounded in-memory pipe.
+ * Nothing is written on the worker disk, and the upload runs on its own thread so it overlaps with the production
+ * of the content (ie: fetching rows from the database).
+ */
+public final class StreamingUpload {
+    private static final int CHUNK_SIZE = FileSerde.BUFFER_SIZE;
+
+    // at most this number of chunks are waiting for the upload, so memory stays bounded whatever the file size
+    private static final int MAX_PENDING_CHUNKS = 32;
+
+    private static final byte[] END = new byte[0];
+    private static final byte[] ABORT = new byte[0];
+
+    private final PipeOutputStream outputStream;
+    private final CompletableFuture<URI> upload;
+
+    private StreamingUpload(RunContext runContext, String name) {
+        BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(MAX_PENDING_CHUNKS);
+        this.upload = new CompletableFuture<>();
+        this.outputStream = new PipeOutputStream(queue, this.upload);
+
+        Thread.ofVirtual()
+            .name("jdbc-storage-upload")
+            .start(() -> {
+                try (InputStream inputStream = new PipeInputStream(queue)) {
+                    this.upload.complete(runContext.storage().putFile(inputStream, name));
+                } catch (Throwable e) {
+                    this.upload.completeExceptionally(e);
+                }
+            });
+    }
+
+    /**
+     * Start the upload of a file with the given name to the internal storage.
+     * The file is only stored once {@link #finish()} is called, {@link #abort()} stops the upload instead of storing a truncated file.
+     */
+    public static StreamingUpload start(RunContext runContext, String name) {
+        return new StreamingUpload(runContext, name);
+    }
+
+    /**
+     * Write a file with the given name to the internal storage, aborting the upload if the writer fails.
+     */
+    public static <T> Result<T> of(RunContext runContext, String name, ContentWriter<T> writer) throws Exception {
+        StreamingUpload upload = start(runContext, name);
+
+        T value;
+        try {
+            value = writer.write(upload.outputStream());
+        } catch (Throwable e) {
+            upload.abort();
+            throw e;
+        }
+
+        return new Result<>(upload.finish(), value);
+    }
+
+    /**
+     * The stream to write the content of the file, closing it doesn't end the file.
+     */
+    public OutputStream outputStream() {
+        return this.outputStream;
+    }
+
+    /**
+     * The number of bytes written so far, some of them may still be waiting for the upload.
+     */
+    public long bytesWritten() {
+        return this.outputStream.count;
+    }
+
+    public URI finish() throws IOException {
+        this.outputStream.finish();
+
+        try {
+            return this.upload.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException cause ? cause : new IOException("Unable to upload to internal storage", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while uploading to internal storage");
+        }
+    }
+
+    public void abort() {
+        this.outputStream.abort();
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter<T> {
+        T write(OutputStream outputStream) throws Exception;
+    }
+
+    public record Result<T>(URI uri, T value) {
+    }
+
+    /**
+     * Only {@link #finish()} ends the file, closing the stream (ie: when a writer closes its target) just flushes it.
+     */
+    private static class PipeOutputStream extends OutputStream {
+        private final BlockingQueue<byte[]> queue;
+        private final CompletableFuture<URI> upload;
+        private byte[] chunk = new byte[CHUNK_SIZE];
+        private int position = 0;
+        private long count = 0;
+
+        private PipeOutputStream(BlockingQueue<byte[]> queue, CompletableFuture<URI> upload) {
+            this.queue = queue;
+            this.upload = upload;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (this.position == this.chunk.length) {
+                this.flush();
+            }
+            this.chunk[this.position++] = (byte) b;
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (this.position == this.chunk.length) {
+                    this.flush();
+                }
+
+                int length = Math.min(len, this.chunk.length - this.position);
+                System.arraycopy(b, off, this.chunk, this.position, length);
+                this.position += length;
+                off += length;
+                len -= length;
+                this.count += length;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (this.position == 0) {
+                return;
+            }
+
+            byte[] full = this.position == this.chunk.length ? this.chunk : Arrays.copyOf(this.chunk, this.position);
+            this.put(full);
+            this.chunk = new byte[CHUNK_SIZE];
+            this.position = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.flush();
+        }
+
+        private void finish() throws IOException {
+            this.flush();
+            this.put(END);
+        }
+
+        private void abort() {
+            this.queue.clear();
+            this.queue.offer(ABORT);
+        }
+
+        private void put(byte[] bytes) throws IOException {
+            try {
+                while (!this.queue.offer(bytes, 100, TimeUnit.MILLISECONDS)) {
+                    if (this.upload.isDone()) {
+                        throw new IOException(
+                            "Upload to internal storage stopped before the end of the file",
+                            this.upload.isCompletedExceptionally() ? this.upload.exceptionNow() : null
+                        );
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while uploading to internal storage");
+            }
+        }
+    }
+
+    private static class PipeInputStream extends InputStream {
+        private final BlockingQueue<byte[]> queue;
+        private byte[] chunk = new byte[0];
+        private int position = 0;
+
+        private PipeInputStream(BlockingQueue<byte[]> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!this.next()) {
+                return -1;
+            }
+            return this.chunk[this.position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!this.next()) {
+                return -1;
+            }
+
+            int length = Math.min(len, this.chunk.length - this.position);
+            System.arraycopy(this.chunk, this.position, b, off, length);
+            this.position += length;
+            return length;
+        }
+
+        private boolean next() throws IOException {
+            while (this.position == this.chunk.length) {
+                if (this.chunk == END) {
+                    return false;
+                }
+                if (this.chunk == ABORT) {
+                    throw new IOException("Upload to internal storage aborted");
+                }
+
+                try {
+                    this.chunk = this.queue.take();
+                    this.position = 0;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for data to upload");
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.kestra.plugin.jdbc;
+
+import io.kestra.core.models.executions.AbstractMetricEntry;
+import io.kestra.core.runners.RunContext;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The metrics of the work run on other threads than the task one (ie: the `splitBy` ranges), collected while it runs
+ * and emitted on the task thread once it's done, as the run context doesn't support reporting metrics concurrently.
+ */
+final class TaskMetrics {
+    private static final ThreadLocal<TaskMetrics> CURRENT = new ThreadLocal<>();
+
+    private final Queue<AbstractMetricEntry<?>> entries = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Report the metric to the collector of the current thread, or to the run context if there is none.
+     */
+    static void metric(RunContext runContext, AbstractMetricEntry<?> entry) {
+        TaskMetrics current = CURRENT.get();
+        if (current != null) {
+            current.entries.add(entry);
+        } else {
+            runContext.metric(entry);
+        }
+    }
+
+    /**
+     * Run the work on the current thread, collecting its metrics.
+     */
+    <T> T collect(Callable<T> work) throws Exception {
+        TaskMetrics previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return work.call();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Report the collected metrics, from the thread that started the work once it's done.
+     */
+    void emit(RunContext runContext) {
+        AbstractMetricEntry<?> entry;
+        while ((entry = this.entries.poll()) != null) {
+            metric(runContext, entry);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.kestra.plugin.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class AbstractJdbcBatchTest {
+    @Test
+    void multiRowSql() {
+        assertThat(
+            AbstractJdbcBatch.multiRowSql("insert into xref (id, name) values( ? , ? );\n", 3),
+            is("insert into xref (id, name) values ( ? , ? ), ( ? , ? ), ( ? , ? )")
+        );
+        assertThat(
+            AbstractJdbcBatch.multiRowSql("INSERT INTO xref VALUES (?,?)", 2),
+            is("INSERT INTO xref VALUES (?,?), (?,?)")
+        );
+    }
+
+    @Test
+    void notRewritten() {
+        assertThat(AbstractJdbcBatch.multiRowSql("insert into xref values (?, 'constant')", 2), nullValue());
+        assertThat(AbstractJdbcBatch.multiRowSql("insert into xref values (?, ?) returning id", 2), nullValue());
+        assertThat(AbstractJdbcBatch.multiRowSql("insert into xref select ?, ?", 2), nullValue());
+        assertThat(AbstractJdbcBatch.multiRowSql("update xref set name = ? where id = ?", 2), nullValue());
+    }
+}
@@ -0,0 +1,39 @@
+package io.kestra.plugin.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class AbstractJdbcQueriesTest {
+    @Test
+    void groups() {
+        List<String> statements = List.of(
+            "SELECT 1",
+            "-- @group\nCREATE TEMP TABLE t AS SELECT 2",
+            "SELECT * FROM t",
+            "/* a comment */\n-- @group\nSELECT 3",
+            "SELECT 4",
+            "-- @end\nSELECT 5",
+            "-- not a marker\nSELECT 6"
+        );
+
+        assertThat(AbstractJdbcQueries.groups(statements), is(List.of(
+            List.of("SELECT 1"),
+            List.of("-- @group\nCREATE TEMP TABLE t AS SELECT 2", "SELECT * FROM t"),
+            List.of("/* a comment */\n-- @group\nSELECT 3", "SELECT 4"),
+            List.of("-- @end\nSELECT 5"),
+            List.of("-- not a marker\nSELECT 6")
+        )));
+    }
+
+    @Test
+    void withoutMarkers() {
+        assertThat(AbstractJdbcQueries.groups(List.of("SELECT 1", "SELECT 2")), is(List.of(
+            List.of("SELECT 1"),
+            List.of("SELECT 2")
+        )));
+    }
+}
@@ -0,0 +1,46 @@
+package io.kestra.plugin.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class CsvRowReaderTest {
+    @Test
+    void headerMapping() throws Exception {
+        String csv = "\uFEFFid,name,skipped,note\r\n"
+            + "1,\"a, \"\"quoted\"\" value\",x,\r\n"
+            + "\n"
+            + "2,\"multi\nline\",y,\"\"\n"
+            + "3,short";
+
+        List<Object[]> rows = read(csv, List.of("id", "name", "note"), true, ',');
+
+        assertThat(rows.size(), is(3));
+        assertThat(Arrays.asList(rows.get(0)), is(Arrays.<Object>asList("1", "a, \"quoted\" value", null)));
+        assertThat(Arrays.asList(rows.get(1)), is(Arrays.<Object>asList("2", "multi\nline", "")));
+        assertThat(Arrays.asList(rows.get(2)), is(Arrays.<Object>asList("3", "short", null)));
+    }
+
+    @Test
+    void withoutHeader() throws Exception {
+        List<Object[]> rows = read("a;b;c\n;\"\";d", List.of("ignored"), false, ';');
+
+        assertThat(Arrays.asList(rows.get(0)), is(Arrays.<Object>asList("a", "b", "c")));
+        assertThat(Arrays.asList(rows.get(1)), is(Arrays.<Object>asList(null, "", "d")));
+    }
+
+    private static List<Object[]> read(String csv, List<String> columns, boolean header, char separator) throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        try (CsvRowReader reader = new CsvRowReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), columns, header, separator)) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+}
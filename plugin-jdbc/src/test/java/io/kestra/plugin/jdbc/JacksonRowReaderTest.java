@@ -0,0 +1,72 @@
+package io.kestra.plugin.jdbc;
+
+import com.fasterxml.jackson.dataformat.ion.IonFactory;
+import com.fasterxml.jackson.dataformat.ion.IonObjectMapper;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class JacksonRowReaderTest {
+    @Test
+    void structsAndLists() throws Exception {
+        String ion = "{id: 1, skipped: {a: [1, 2]}, name: \"first\", price: 1.50} [2, \"second\", null, true]";
+
+        List<Object[]> rows = read(ion.getBytes(StandardCharsets.UTF_8), List.of("id", "name", "price"));
+
+        assertThat(rows.size(), is(2));
+        assertThat(List.of(rows.get(0)), is(List.<Object>of(1, "first", new BigDecimal("1.50"))));
+        assertThat(rows.get(1).length, is(4));
+        assertThat((String) rows.get(1)[1], is("second"));
+        assertThat(rows.get(1)[2] == null, is(true));
+        assertThat((Boolean) rows.get(1)[3], is(true));
+    }
+
+    @Test
+    void sameValuesAsTheIonMapper() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 9223372036854775807L);
+        row.put("date", LocalDate.parse("2030-12-25"));
+        row.put("tags", List.of("a", "b"));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FileSerde.write(output, row);
+
+        Object[] values = read(output.toByteArray(), List.of()).getFirst();
+        Map<?, ?> expected = JacksonMapper.ofIon().readValue(output.toByteArray(), Map.class);
+
+        List<Object> expectedValues = new ArrayList<>(expected.values());
+        assertThat(List.of(values), is(expectedValues));
+    }
+
+    @Test
+    void binary() throws Exception {
+        IonFactory factory = new IonFactory();
+        factory.setCreateBinaryWriters(true);
+        byte[] binary = new IonObjectMapper(factory).writeValueAsBytes(List.of(1, "binary"));
+
+        List<Object[]> rows = read(binary, List.of());
+
+        assertThat(List.of(rows.getFirst()), is(List.<Object>of(1, "binary")));
+    }
+
+    private static List<Object[]> read(byte[] ion, List<String> columns) throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        try (JacksonRowReader reader = new JacksonRowReader(JacksonMapper.ofIon(), new ByteArrayInputStream(ion), columns)) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,49 @@
+package io.kestra.plugin.jdbc;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+class JdbcConnectionPoolTest {
+    @Inject
+    protected RunContextFactory runContextFactory;
+
+    @Test
+    void emptyPoolIsRemoved() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        String url = "jdbc:h2:mem:" + IdUtils.create();
+        Properties properties = new Properties();
+
+        Connection connection = JdbcConnectionPool.borrow(runContext, url, properties);
+
+        // a borrowed connection keeps its pool
+        JdbcConnectionPool.evictIdle(Instant.now().plus(JdbcConnectionPool.MAX_LIFETIME).plusSeconds(1));
+        assertThat(JdbcConnectionPool.hasPool(url, properties), is(true));
+
+        connection.close();
+
+        // an idle connection not expired yet keeps its pool
+        JdbcConnectionPool.evictIdle(Instant.now());
+        assertThat(JdbcConnectionPool.hasPool(url, properties), is(true));
+
+        JdbcConnectionPool.evictIdle(Instant.now().plus(JdbcConnectionPool.IDLE_TIMEOUT).plusSeconds(1));
+        assertThat(JdbcConnectionPool.hasPool(url, properties), is(false));
+
+        // a new pool is created for the next borrow
+        try (Connection next = JdbcConnectionPool.borrow(runContext, url, properties)) {
+            assertThat(next.isValid(1), is(true));
+            assertThat(JdbcConnectionPool.hasPool(url, properties), is(true));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.kestra.plugin.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class JdbcMetadataCacheTest {
+    @Test
+    void columnsAreLoadedOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            List<String> columns = JdbcMetadataCache.columns("user@jdbc:test:once", "t", () -> {
+                loads.incrementAndGet();
+                return List.of("a", "b");
+            });
+            assertThat(columns, is(List.of("a", "b")));
+        }
+
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    void invalidate() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        String database = "user@jdbc:test:invalidate";
+
+        JdbcMetadataCache.columns(database, "t", () -> List.of("v" + loads.incrementAndGet()));
+        JdbcMetadataCache.invalidate(database, "t");
+        assertThat(JdbcMetadataCache.columns(database, "t", () -> List.of("v" + loads.incrementAndGet())), is(List.of("v2")));
+
+        JdbcMetadataCache.invalidate(database);
+        assertThat(JdbcMetadataCache.columns(database, "t", () -> List.of("v" + loads.incrementAndGet())), is(List.of("v3")));
+
+        // another database doesn't share the entries
+        assertThat(JdbcMetadataCache.columns("other@jdbc:test:invalidate", "t", () -> List.of("other")), is(List.of("other")));
+    }
+
+    @Test
+    void emptyColumnsAreNotCached() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            JdbcMetadataCache.columns("user@jdbc:test:empty", "missing", () -> {
+                loads.incrementAndGet();
+                return List.of();
+            });
+        }
+
+        assertThat(loads.get(), is(2));
+    }
+}
@@ -0,0 +1,41 @@
+package io.kestra.plugin.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ParsedStatementTest {
+    @Test
+    void replaceParameters() {
+        ParsedStatement parsed = ParsedStatement.of("SELECT * FROM t WHERE a = :a AND (b = :b OR c = :a)");
+
+        assertThat(parsed.sql(), is("SELECT * FROM t WHERE a = ? AND (b = ? OR c = ?)"));
+        assertThat(parsed.parameters(), is(List.of("a", "b", "a")));
+    }
+
+    @Test
+    void ignoreLiteralsCommentsAndCasts() {
+        ParsedStatement parsed = ParsedStatement.of("""
+            -- filter on :ignored
+            SELECT ':no', "col:no", `x:no`, E'\\':no', $$ :no $$, $body$ :no $body$, /* :no /* :no */ */ :id::text, $1
+            FROM t WHERE time = '12:00' AND v = :value""");
+
+        assertThat(parsed.parameters(), is(List.of("id", "value")));
+        assertThat(parsed.sql().contains("?::text"), is(true));
+        assertThat(parsed.sql().endsWith("v = ?"), is(true));
+    }
+
+    @Test
+    void withoutParameters() {
+        String sql = "SELECT a::int, 'b:c' FROM t";
+        ParsedStatement parsed = ParsedStatement.of(sql);
+
+        assertThat(parsed.sql(), sameInstance(sql));
+        assertThat(parsed.parameters().isEmpty(), is(true));
+        assertThat(ParsedStatement.of(sql), sameInstance(parsed));
+    }
+}
@@ -0,0 +1,26 @@
+package io.kestra.plugin.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+class PartitionedRowWriterTest {
+    @Test
+    void escapeLikeHive() {
+        assertThat(PartitionedRowWriter.escape("2024/01/01"), is("2024%2F01%2F01"));
+        assertThat(PartitionedRowWriter.escape("a=b"), is("a%3Db"));
+        assertThat(PartitionedRowWriter.escape("100%"), is("100%25"));
+        assertThat(PartitionedRowWriter.escape("12:00"), is("12%3A00"));
+        assertThat(PartitionedRowWriter.escape("line\nbreak"), is("line%0Abreak"));
+        assertThat(PartitionedRowWriter.escape("\u00e9t\u00e9 2024"), is("\u00e9t\u00e9 2024"));
+    }
+
+    @Test
+    void unchangedWithoutEscapedCharacters() {
+        String value = "2024-01-01";
+
+        assertThat(PartitionedRowWriter.escape(value), sameInstance(value));
+    }
+}
@@ -0,0 +1,17 @@
+package io.kestra.plugin.jdbc;
+
+import io.kestra.core.models.tasks.common.FetchType;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ResultStreamingTest {
+    @Test
+    void ofFetchType() {
+        assertThat(ResultStreaming.of(FetchType.STORE), is(ResultStreaming.ROW_STREAMING));
+        assertThat(ResultStreaming.of(FetchType.FETCH_ONE), is(ResultStreaming.CURSOR_FETCH));
+        assertThat(ResultStreaming.of(FetchType.FETCH), is(ResultStreaming.BUFFERED));
+        assertThat(ResultStreaming.of(FetchType.NONE), is(ResultStreaming.BUFFERED));
+    }
+}
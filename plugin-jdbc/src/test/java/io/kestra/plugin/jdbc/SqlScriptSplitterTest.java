@@ -0,0 +1,197 @@
+package io.kestra.plugin.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class SqlScriptSplitterTest {
+    @Test
+    void ansi() {
+        assertThat(split("""
+            -- only a comment
+            ;
+            SELECT 'a;b', "c;d" FROM t;
+            /* another one; */
+            SELECT 2
+            """, SqlScriptSplitter.Dialect.ANSI), is(List.of(
+            "SELECT 'a;b', \"c;d\" FROM t",
+            "/* another one; */\nSELECT 2"
+        )));
+
+        assertThat(split("SELECT CASE WHEN a = 1 THEN 'x;' ELSE 'y' END FROM t; SELECT 2;", SqlScriptSplitter.Dialect.ANSI), is(List.of(
+            "SELECT CASE WHEN a = 1 THEN 'x;' ELSE 'y' END FROM t",
+            "SELECT 2"
+        )));
+    }
+
+    @Test
+    void beginAndEndAsNames() {
+        assertThat(split("CREATE TABLE ev (id int, begin timestamp); INSERT INTO ev VALUES (1, now()); SELECT 1;", SqlScriptSplitter.Dialect.ANSI), is(List.of(
+            "CREATE TABLE ev (id int, begin timestamp)",
+            "INSERT INTO ev VALUES (1, now())",
+            "SELECT 1"
+        )));
+
+        assertThat(split("UPDATE t SET begin = 1; SELECT 2;", SqlScriptSplitter.Dialect.ANSI), is(List.of(
+            "UPDATE t SET begin = 1",
+            "SELECT 2"
+        )));
+
+        assertThat(split("SELECT begin, end FROM ev WHERE ev.begin > 1; SELECT 2", SqlScriptSplitter.Dialect.POSTGRES), is(List.of(
+            "SELECT begin, end FROM ev WHERE ev.begin > 1",
+            "SELECT 2"
+        )));
+
+        // in a block, a `begin` or `end` column neither opens nor closes a block
+        assertThat(split("""
+            CREATE TRIGGER log AFTER INSERT ON ev BEGIN
+                INSERT INTO log (begin, end) VALUES (new.begin, new.end);
+            END;
+            SELECT 1;
+            """, SqlScriptSplitter.Dialect.SQLITE), is(List.of(
+            "CREATE TRIGGER log AFTER INSERT ON ev BEGIN\n    INSERT INTO log (begin, end) VALUES (new.begin, new.end);\nEND",
+            "SELECT 1"
+        )));
+    }
+
+    @Test
+    void postgres() {
+        assertThat(split("""
+            BEGIN;
+            CREATE FUNCTION f() RETURNS int AS $body$ BEGIN RETURN 1; END; $body$ LANGUAGE plpgsql;
+            SELECT E'it\\'s;', $$a;b$$, $1 /* outer /* nested; */ still; */;
+            DO $$ BEGIN PERFORM 1; END $$;
+            COMMIT;
+            """, SqlScriptSplitter.Dialect.POSTGRES), is(List.of(
+            "BEGIN",
+            "CREATE FUNCTION f() RETURNS int AS $body$ BEGIN RETURN 1; END; $body$ LANGUAGE plpgsql",
+            "SELECT E'it\\'s;', $$a;b$$, $1 /* outer /* nested; */ still; */",
+            "DO $$ BEGIN PERFORM 1; END $$",
+            "COMMIT"
+        )));
+
+        assertThat(split("BEGIN ISOLATION LEVEL SERIALIZABLE; SELECT 1; END;", SqlScriptSplitter.Dialect.POSTGRES), is(List.of(
+            "BEGIN ISOLATION LEVEL SERIALIZABLE",
+            "SELECT 1",
+            "END"
+        )));
+    }
+
+    @Test
+    void mysql() {
+        assertThat(split("""
+            # a comment;
+            SELECT 'it\\'s;', "a\\";b";
+            CREATE DEFINER=`root`@`%` PROCEDURE p(IN x INT)
+            BEGIN
+                DECLARE y INT;
+                IF x > 0 THEN
+                    SET y = CASE WHEN x > 1 THEN 2 ELSE 1 END;
+                END IF;
+                CASE y
+                    WHEN 1 THEN BEGIN SELECT 1; END;
+                    ELSE SELECT 2;
+                END CASE;
+            END;
+            START TRANSACTION;
+            """, SqlScriptSplitter.Dialect.MYSQL), is(List.of(
+            "# a comment;\nSELECT 'it\\'s;', \"a\\\";b\"",
+            """
+                CREATE DEFINER=`root`@`%` PROCEDURE p(IN x INT)
+                BEGIN
+                    DECLARE y INT;
+                    IF x > 0 THEN
+                        SET y = CASE WHEN x > 1 THEN 2 ELSE 1 END;
+                    END IF;
+                    CASE y
+                        WHEN 1 THEN BEGIN SELECT 1; END;
+                        ELSE SELECT 2;
+                    END CASE;
+                END""",
+            "START TRANSACTION"
+        )));
+    }
+
+    @Test
+    void sqlServer() {
+        assertThat(split("""
+            SELECT [a;b] FROM t
+            GO
+            BEGIN TRAN;
+            IF EXISTS (SELECT 1 FROM t)
+            BEGIN
+                UPDATE t SET begin = 1;
+                DELETE FROM t;
+            END;
+            COMMIT;
+            """, SqlScriptSplitter.Dialect.SQLSERVER), is(List.of(
+            "SELECT [a;b] FROM t",
+            "BEGIN TRAN",
+            "IF EXISTS (SELECT 1 FROM t)\nBEGIN\n    UPDATE t SET begin = 1;\n    DELETE FROM t;\nEND",
+            "COMMIT"
+        )));
+    }
+
+    @Test
+    void oracle() {
+        assertThat(split("""
+            CREATE OR REPLACE PROCEDURE p IS
+                y NUMBER;
+            BEGIN
+                CASE
+                    WHEN y > 1 THEN y := 2;
+                    ELSE y := 1;
+                END CASE;
+                LOOP
+                    EXIT;
+                END LOOP;
+            END;
+            /
+            SELECT 'a;b' FROM dual;
+            BEGIN
+                NULL;
+            END;
+            /
+            """, SqlScriptSplitter.Dialect.ORACLE), is(List.of(
+            """
+                CREATE OR REPLACE PROCEDURE p IS
+                    y NUMBER;
+                BEGIN
+                    CASE
+                        WHEN y > 1 THEN y := 2;
+                        ELSE y := 1;
+                    END CASE;
+                    LOOP
+                        EXIT;
+                    END LOOP;
+                END;""",
+            "SELECT 'a;b' FROM dual",
+            "BEGIN\n    NULL;\nEND;"
+        )));
+    }
+
+    @Test
+    void sqlite() {
+        assertThat(split("""
+            CREATE TABLE [a;b] (id INTEGER);
+            CREATE TRIGGER t AFTER INSERT ON [a;b] FOR EACH ROW BEGIN
+                UPDATE c SET n = CASE WHEN n IS NULL THEN 1 ELSE n + 1 END;
+            END;
+            BEGIN TRANSACTION;
+            """, SqlScriptSplitter.Dialect.SQLITE), is(List.of(
+            "CREATE TABLE [a;b] (id INTEGER)",
+            "CREATE TRIGGER t AFTER INSERT ON [a;b] FOR EACH ROW BEGIN\n    UPDATE c SET n = CASE WHEN n IS NULL THEN 1 ELSE n + 1 END;\nEND",
+            "BEGIN TRANSACTION"
+        )));
+    }
+
+    private static List<String> split(String script, SqlScriptSplitter.Dialect dialect) {
+        List<String> statements = new ArrayList<>();
+        new SqlScriptSplitter(script, dialect).forEach(statements::add);
+        return statements;
+    }
+}
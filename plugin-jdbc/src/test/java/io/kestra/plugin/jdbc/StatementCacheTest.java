@@ -0,0 +1,45 @@
+package io.kestra.plugin.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class StatementCacheTest {
+    @Test
+    void settingsAreResetWhenReused() throws Exception {
+        StatementCache cache = new StatementCache();
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:statement_cache")) {
+            String sql = "SELECT 1";
+            int fetchSize;
+            int maxRows;
+            int queryTimeout;
+
+            try (PreparedStatement statement = cache.prepare(connection, connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                fetchSize = statement.getFetchSize();
+                maxRows = statement.getMaxRows();
+                queryTimeout = statement.getQueryTimeout();
+
+                statement.setFetchSize(fetchSize + 10);
+                statement.setMaxRows(maxRows + 5);
+                statement.setQueryTimeout(queryTimeout + 30);
+                statement.executeQuery();
+            }
+
+            try (PreparedStatement statement = cache.prepare(connection, connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                assertThat(cache.hits(), is(1L));
+                assertThat(statement.getFetchSize(), is(fetchSize));
+                assertThat(statement.getMaxRows(), is(maxRows));
+                assertThat(statement.getQueryTimeout(), is(queryTimeout));
+            }
+
+            cache.closeAll();
+        }
+    }
+}
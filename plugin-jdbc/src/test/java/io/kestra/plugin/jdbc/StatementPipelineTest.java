@@ -0,0 +1,43 @@
+package io.kestra.plugin.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class StatementPipelineTest {
+    @Test
+    void statementsWithoutResults() {
+        assertThat(StatementPipeline.canPipeline("INSERT INTO t VALUES (1)", false), is(true));
+        assertThat(StatementPipeline.canPipeline("-- comment\n/* block */ update t SET a = 1", false), is(true));
+        assertThat(StatementPipeline.canPipeline("CREATE TABLE t (id INT, type_name VARCHAR(10))", false), is(true));
+        assertThat(StatementPipeline.canPipeline("ALTER TABLE t ADD COLUMN view_count INT", false), is(true));
+        assertThat(StatementPipeline.canPipeline("DROP VIEW v", false), is(true));
+    }
+
+    @Test
+    void statementsWithResults() {
+        assertThat(StatementPipeline.canPipeline("SELECT * FROM t", false), is(false));
+        assertThat(StatementPipeline.canPipeline("WITH a AS (SELECT 1) INSERT INTO t SELECT * FROM a", false), is(false));
+        assertThat(StatementPipeline.canPipeline("INSERT INTO t VALUES (1) RETURNING id", false), is(false));
+        assertThat(StatementPipeline.canPipeline("DELETE FROM t OUTPUT deleted.id", false), is(false));
+    }
+
+    @Test
+    void definitionsRunOnTheirOwn() {
+        assertThat(StatementPipeline.canPipeline("CREATE VIEW v AS SELECT * FROM t", false), is(false));
+        assertThat(StatementPipeline.canPipeline("CREATE OR REPLACE FUNCTION f() RETURNS int AS $$ SELECT 1 $$ LANGUAGE sql", false), is(false));
+        assertThat(StatementPipeline.canPipeline("create or alter procedure p as begin select 1; end", false), is(false));
+        assertThat(StatementPipeline.canPipeline("CREATE TRIGGER tr AFTER INSERT ON t BEGIN SELECT 1; END", false), is(false));
+        assertThat(StatementPipeline.canPipeline("CREATE MATERIALIZED VIEW v AS SELECT * FROM t", false), is(false));
+        assertThat(StatementPipeline.canPipeline("ALTER VIEW v AS SELECT * FROM t", false), is(false));
+    }
+
+    @Test
+    void namedParameters() {
+        assertThat(StatementPipeline.canPipeline("INSERT INTO t VALUES (:id)", true), is(false));
+        assertThat(StatementPipeline.canPipeline("INSERT INTO t VALUES (':id')", true), is(true));
+        // without task parameters, the statement is sent as is
+        assertThat(StatementPipeline.canPipeline("INSERT INTO t VALUES (:id)", false), is(true));
+    }
+}
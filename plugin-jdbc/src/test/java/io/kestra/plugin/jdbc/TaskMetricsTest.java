@@ -0,0 +1,51 @@
+package io.kestra.plugin.jdbc;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+class TaskMetricsTest {
+    @Inject
+    protected RunContextFactory runContextFactory;
+
+    @Test
+    void collectedOnOtherThreads() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        TaskMetrics metrics = new TaskMetrics();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> futures = IntStream.range(0, 100)
+                .mapToObj(i -> executor.submit(() -> metrics.collect(() -> {
+                    TaskMetrics.metric(runContext, Counter.of("collected", 1));
+                    return i;
+                })))
+                .toList();
+
+            for (Future<Integer> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(runContext.metrics().size(), is(0));
+
+        metrics.emit(runContext);
+        assertThat(runContext.metrics().size(), is(100));
+
+        // outside of a collector, the metric is reported right away
+        TaskMetrics.metric(runContext, Counter.of("direct", 1));
+        assertThat(runContext.metrics().size(), is(101));
+    }
+}